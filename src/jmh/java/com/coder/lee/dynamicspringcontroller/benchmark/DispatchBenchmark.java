@@ -0,0 +1,162 @@
+package com.coder.lee.dynamicspringcontroller.benchmark;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ControllerInterceptor;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.metrics.EndpointMetricsInterceptor;
+import com.coder.lee.dynamicspringcontroller.metrics.EndpointMetricsProperties;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
+import com.coder.lee.dynamicspringcontroller.service.test.impl.SayAPIImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: 调用 SayAPIImpl#say(String) 的各条路径：直接调用、手写controller、generated controller(direct/proxy、有无拦截链)
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 01:00
+ *
+ * controller方法与spring mvc一样通过 {@link Method#invoke} 调用；-prof gc 查看每次调用的分配。
+ *
+ * @author coderLee23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private static final String BEAN_NAME = "sayAPIImpl";
+
+    private final String word = "hello";
+
+    private SayAPI sayAPI;
+
+    private Target handWritten;
+
+    private Target generated;
+
+    private Target generatedIntercepted;
+
+    private Target generatedMetrics;
+
+    private Target generatedProxy;
+
+    /**
+     * 与generated controller相同形状的手写controller
+     */
+    public static class HandWrittenSayController {
+
+        private final SayAPI delegate;
+
+        public HandWrittenSayController(SayAPI delegate) {
+            this.delegate = delegate;
+        }
+
+        @PostMapping("say_String")
+        public String say(@RequestBody String wordStr) {
+            return delegate.say(wordStr);
+        }
+
+    }
+
+    private static class Target {
+
+        private final Object controller;
+
+        private final Method method;
+
+        Target(Object controller, Method method) {
+            this.controller = controller;
+            this.method = method;
+        }
+
+        Object invoke(Object arg) throws Exception {
+            return method.invoke(controller, arg);
+        }
+
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        sayAPI = new SayAPIImpl();
+        HandWrittenSayController controller = new HandWrittenSayController(sayAPI);
+        handWritten = new Target(controller, HandWrittenSayController.class.getMethod("say", String.class));
+        generated = generate(DispatchMode.DIRECT, false, Collections.emptyList());
+        generatedIntercepted = generate(DispatchMode.DIRECT, true, Collections.emptyList());
+        generatedMetrics = generate(DispatchMode.DIRECT, true,
+                Collections.singletonList(new EndpointMetricsInterceptor(new SimpleMeterRegistry(), new EndpointMetricsProperties())));
+        generatedProxy = generate(DispatchMode.PROXY, false, Collections.emptyList());
+    }
+
+    private Target generate(DispatchMode dispatchMode, boolean intercepted, List<EndpointInterceptor> interceptors) throws Exception {
+        ApiControllerGenerator generator = new ApiControllerGenerator(dispatchMode, ControllerTarget.SERVLET, intercepted);
+        List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(SayAPI.class, BEAN_NAME);
+        InvocationHandler invocationHandler = dispatchMode == DispatchMode.PROXY ? new ControllerInterceptor(sayAPI) : null;
+        // 每种方式使用独立的ClassLoader，生成的类名相同
+        Class<?> controllerClazz = generator.make(BEAN_NAME, endpoints, invocationHandler)
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        ApiControllerGenerator.bindApiEndpoints(controllerClazz, endpoints, null);
+        endpoints.forEach(endpoint -> endpoint.bind(interceptors));
+        Object controller = controllerClazz.getDeclaredConstructor().newInstance();
+        if (dispatchMode == DispatchMode.DIRECT) {
+            ApiControllerGenerator.setDelegate(controller, sayAPI);
+        }
+        return new Target(controller, ApiControllerGenerator.getControllerMethods(controllerClazz).get("say_String"));
+    }
+
+    @Benchmark
+    public Object direct() {
+        return sayAPI.say(word);
+    }
+
+    @Benchmark
+    public Object handWritten() throws Exception {
+        return handWritten.invoke(word);
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        return generated.invoke(word);
+    }
+
+    @Benchmark
+    public Object generatedIntercepted() throws Exception {
+        return generatedIntercepted.invoke(word);
+    }
+
+    @Benchmark
+    public Object generatedMetrics() throws Exception {
+        return generatedMetrics.invoke(word);
+    }
+
+    @Benchmark
+    public Object generatedProxy() throws Exception {
+        return generatedProxy.invoke(word);
+    }
+
+}
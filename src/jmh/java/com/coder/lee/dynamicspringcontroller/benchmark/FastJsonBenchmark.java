@@ -0,0 +1,79 @@
+package com.coder.lee.dynamicspringcontroller.benchmark;
+
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.alibaba.fastjson.support.spring.FastJsonHttpMessageConverter;
+import com.coder.lee.dynamicspringcontroller.json.StreamingFastJsonHttpMessageConverter;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: Word 请求体的读取与响应体的写出，比较流式写出与父类先序列化到 byte[] 的写出
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 01:00
+ *
+ * @author coderLee23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FastJsonBenchmark {
+
+    private final byte[] request = "{\"word_xx\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Word response = new Word("hello");
+
+    private FastJsonHttpMessageConverter streaming;
+
+    private FastJsonHttpMessageConverter buffered;
+
+    @Setup
+    public void setUp() {
+        FastJsonConfig fastJsonConfig = new FastJsonConfig();
+        streaming = new StreamingFastJsonHttpMessageConverter();
+        streaming.setFastJsonConfig(fastJsonConfig);
+        buffered = new FastJsonHttpMessageConverter();
+        buffered.setFastJsonConfig(fastJsonConfig);
+    }
+
+    @Benchmark
+    public Object readWord() throws IOException {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(request);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return streaming.read(Word.class, null, inputMessage);
+    }
+
+    @Benchmark
+    public Object writeWordStreaming() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        streaming.write(response, Word.class, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage;
+    }
+
+    @Benchmark
+    public Object writeWordBuffered() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        buffered.write(response, Word.class, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.coder.lee.dynamicspringcontroller.benchmark;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinition;
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinitionScanner;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FixedValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: N个合成API的类路径扫描与controller生成耗时
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 01:00
+ *
+ * 每个合成API与 SayAPI 形状相同：say(String)、say(Word)、say(String, Word)，class写入临时目录后由独立的ClassLoader加载。
+ *
+ * @author coderLee23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    private static final String PACKAGE = "com.coder.lee.dynamicspringcontroller.benchmark.synthetic";
+
+    @Param({"10", "100"})
+    private int apiCount;
+
+    private File directory;
+
+    private URLClassLoader classLoader;
+
+    private final List<Class<?>> interfaces = new ArrayList<>();
+
+    private final ApiControllerGenerator generator = new ApiControllerGenerator(DispatchMode.DIRECT, ControllerTarget.SERVLET, true);
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+        directory = Files.createTempDirectory("synthetic-api").toFile();
+        for (int i = 0; i < apiCount; i++) {
+            String interfaceName = PACKAGE + ".Synthetic" + i + "API";
+            DynamicType.Unloaded<?> api = new ByteBuddy()
+                    .makeInterface()
+                    .name(interfaceName)
+                    .defineMethod("say", String.class, Visibility.PUBLIC).withParameter(String.class, "wordStr").withoutCode()
+                    .defineMethod("say", String.class, Visibility.PUBLIC).withParameter(Word.class, "word").withoutCode()
+                    .defineMethod("say", String.class, Visibility.PUBLIC).withParameter(String.class, "wordStr").withParameter(Word.class, "word").withoutCode()
+                    .make();
+            api.saveIn(directory);
+            new ByteBuddy()
+                    .subclass(Object.class)
+                    .name(interfaceName + "Impl")
+                    .implement(api.getTypeDescription())
+                    .method(method -> method.getName().equals("say")).intercept(FixedValue.value("说"))
+                    .make()
+                    .saveIn(directory);
+        }
+        classLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, getClass().getClassLoader());
+        for (int i = 0; i < apiCount; i++) {
+            interfaces.add(classLoader.loadClass(PACKAGE + ".Synthetic" + i + "API"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public List<ApiDefinition> scan() {
+        return new ApiDefinitionScanner(classLoader).scan(new String[]{PACKAGE});
+    }
+
+    @Benchmark
+    public List<DynamicType.Unloaded<?>> generate() {
+        List<DynamicType.Unloaded<?>> controllers = new ArrayList<>(interfaces.size());
+        for (Class<?> api : interfaces) {
+            String beanName = api.getSimpleName() + "Impl";
+            controllers.add(generator.make(beanName, ApiControllerGenerator.getApiEndpoints(api, beanName), null));
+        }
+        return controllers;
+    }
+
+    @Benchmark
+    public List<Class<?>> generateAndLoad() {
+        List<Class<?>> controllers = new ArrayList<>(interfaces.size());
+        for (DynamicType.Unloaded<?> controller : generate()) {
+            controllers.add(controller.load(classLoader, ClassLoadingStrategy.Default.WRAPPER).getLoaded());
+        }
+        return controllers;
+    }
+
+}
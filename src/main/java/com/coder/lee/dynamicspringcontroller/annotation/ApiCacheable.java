@@ -0,0 +1,38 @@
+package com.coder.lee.dynamicspringcontroller.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: 标记XXXAPI中的纯函数方法，generated controller按参数缓存已序列化的响应报文
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * 命中缓存时既不调用XXXAPIImpl也不再做json序列化，直接输出缓存的字节。
+ * 缓存key为方法参数按字段排序后的json(ApiInvocation#getArgumentsKey)；仅对servlet下同步返回的方法生效，@Blocking、@MicroBatch 及异步方法忽略。
+ *
+ * @author coderLee23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ApiCacheable {
+
+    /**
+     * 最多缓存的响应个数，超出后按 W-TinyLFU 淘汰
+     */
+    long maximumSize() default 1024;
+
+    /**
+     * 写入后的存活时间
+     */
+    long expireAfterWrite() default 60;
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
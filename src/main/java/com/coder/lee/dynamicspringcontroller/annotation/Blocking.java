@@ -0,0 +1,35 @@
+package com.coder.lee.dynamicspringcontroller.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: 标记XXXAPI中会阻塞的方法，generated controller将其放到该API独立的有界线程池中执行，不占用servlet线程
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 18:20
+ *
+ * 标记在接口上时对所有方法生效；同一API的方法共用一个线程池，各方法声明的线程池参数必须一致。
+ * 返回 CompletableFuture 的方法本身已是异步的，不再转移执行。
+ *
+ * @author coderLee23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Blocking {
+
+    /**
+     * 线程数
+     */
+    int threads() default 8;
+
+    /**
+     * 等待队列长度，队列满时返回503
+     */
+    int queueCapacity() default 256;
+
+}
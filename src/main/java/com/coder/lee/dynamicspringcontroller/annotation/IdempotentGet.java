@@ -0,0 +1,33 @@
+package com.coder.lee.dynamicspringcontroller.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: 标记XXXAPI中的幂等只读方法，generated controller以 @GetMapping 映射，参数从查询字符串绑定
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 03:00
+ *
+ * 参数只能是简单类型(String、基本类型及其包装类、枚举、日期及其数组)，如 GET /find_String_int?name=a&limit=10，
+ * 参数上的约束注解照常校验。响应携带 ETag 及 Cache-Control，If-None-Match 匹配时返回304：
+ * 返回值实现 {@link com.coder.lee.dynamicspringcontroller.cache.ApiVersioned} 时以其版本号作为ETag，不序列化响应；
+ * 否则以序列化后的报文摘要作为ETag，同时标注 {@link ApiCacheable} 时命中缓存即可判断，无需再次序列化。
+ * ETag及304仅对servlet生效，webflux下只生成GET映射。
+ *
+ * @author coderLee23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface IdempotentGet {
+
+    /**
+     * 响应的 Cache-Control，默认要求浏览器及代理每次以 If-None-Match 重新验证；为空时不输出
+     */
+    String cacheControl() default "no-cache";
+
+}
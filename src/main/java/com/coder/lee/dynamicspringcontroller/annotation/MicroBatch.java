@@ -0,0 +1,41 @@
+package com.coder.lee.dynamicspringcontroller.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: 标记XXXAPI中存在批量版本的单参数方法，generated controller将短时间内到达的并发调用合并为一次批量方法调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:50
+ *
+ * 批量方法声明在同一API接口中，参数为 List&lt;单参数类型&gt;，返回按参数顺序一一对应的 List，如
+ * {@code String say(Word word)} 对应 {@code List<String> say(List<Word> words)}。
+ * 调用在批量满 maxSize 或第一个调用等待 maxDelayMillis 后提交；servlet下controller返回 CompletableFuture，webflux下返回 Mono。
+ *
+ * @author coderLee23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MicroBatch {
+
+    /**
+     * 批量方法名，默认与当前方法同名
+     */
+    String method() default "";
+
+    /**
+     * 单次批量调用的最大参数个数
+     */
+    int maxSize() default 50;
+
+    /**
+     * 批量中第一个调用的最长等待时间
+     */
+    long maxDelayMillis() default 5;
+
+}
@@ -0,0 +1,32 @@
+package com.coder.lee.dynamicspringcontroller.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: 合并同一方法参数相同的并发调用，只有最先到达的调用执行XXXAPIImpl，其余调用等待并共享其结果或异常
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:10
+ *
+ * 共享的返回值是同一个对象，调用方不应修改；参数按 ApiInvocation#getArgumentsKey 区分。
+ * servlet下同步方法的等待方占用请求线程等待，最多等待 {@link #maxWaitMillis()}，超时后自己执行XXXAPIImpl；
+ * @Blocking、@MicroBatch 及返回 CompletionStage 的方法返回共享结果的future；
+ * webflux下返回 Mono，不阻塞事件循环。返回 Publisher 的方法不支持。
+ *
+ * @author coderLee23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SingleFlight {
+
+    /**
+     * servlet下同步方法的等待方占用请求线程等待进行中调用的最长时间
+     */
+    long maxWaitMillis() default 3000;
+
+}
@@ -0,0 +1,125 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.annotation.Blocking;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description: 每个API一个的有界线程池，执行 {@link Blocking} 方法
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 18:20
+ *
+ * 一个API的慢后端只会占满自己的线程池和队列，不影响servlet线程及其他API。
+ * 同一API的方法共用一个线程池，声明的线程池参数必须一致，否则绑定失败，不会静默采用其中一个。
+ *
+ * @author coderLee23
+ */
+public class ApiBlockingExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiBlockingExecutors.class);
+
+    /**
+     * API接口名 -> 线程池，热替换后的endpoint沿用原线程池
+     */
+    private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    /**
+     * API接口名 -> 包装线程池的 Scheduler，与线程池一起创建、关闭
+     */
+    private final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    /**
+     * API接口名 -> 当前线程池的参数
+     */
+    private final Map<String, Blocking> settings = new ConcurrentHashMap<>();
+
+    /**
+     * 为 blocking endpoint 绑定所属API的线程池及 Scheduler
+     *
+     * @param endpoints 同一批注册的endpoint
+     * @throws IllegalStateException 同一API的方法声明了不同的线程池参数
+     */
+    public synchronized void bind(List<ApiEndpoint> endpoints) {
+        Map<String, ApiEndpoint> declared = new LinkedHashMap<>();
+        for (ApiEndpoint endpoint : endpoints) {
+            if (!endpoint.isBlocking()) {
+                continue;
+            }
+            ApiEndpoint first = declared.putIfAbsent(endpoint.getApiInterface().getName(), endpoint);
+            if (first != null && !sameSettings(first.getBlocking(), endpoint.getBlocking())) {
+                throw new IllegalStateException(String.format("@Blocking of %s (threads=%d, queueCapacity=%d) conflicts with %s (threads=%d, queueCapacity=%d), "
+                                + "methods of one api share one executor", endpoint, endpoint.getBlocking().threads(), endpoint.getBlocking().queueCapacity(),
+                        first, first.getBlocking().threads(), first.getBlocking().queueCapacity()));
+            }
+        }
+        declared.forEach((api, endpoint) -> {
+            Blocking previous = settings.get(api);
+            if (previous != null && !sameSettings(previous, endpoint.getBlocking())) {
+                // 热替换后参数变化，换用新的线程池，原线程池执行完已提交的任务后关闭
+                retire(api);
+            }
+        });
+        for (ApiEndpoint endpoint : endpoints) {
+            if (endpoint.isBlocking()) {
+                String api = endpoint.getApiInterface().getName();
+                ThreadPoolExecutor executor = executors.computeIfAbsent(api, name -> newExecutor(endpoint));
+                settings.putIfAbsent(api, endpoint.getBlocking());
+                endpoint.setExecutor(executor);
+                endpoint.setScheduler(schedulers.computeIfAbsent(api, name -> Schedulers.fromExecutor(executor)));
+            }
+        }
+    }
+
+    private static boolean sameSettings(Blocking a, Blocking b) {
+        return a.threads() == b.threads() && a.queueCapacity() == b.queueCapacity();
+    }
+
+    private void retire(String api) {
+        settings.remove(api);
+        Scheduler scheduler = schedulers.remove(api);
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+        ThreadPoolExecutor executor = executors.remove(api);
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolExecutor newExecutor(ApiEndpoint endpoint) {
+        Blocking blocking = endpoint.getBlocking();
+        String api = endpoint.getApiInterface().getSimpleName();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 队列满时抛出 RejectedExecutionException，由调用方转换为503
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(blocking.threads(), blocking.threads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(blocking.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "api-blocking-" + api + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        LOGGER.info("api {} blocking executor threads: {}, queue capacity: {}", api, blocking.threads(), blocking.queueCapacity());
+        return executor;
+    }
+
+    public void shutdown() {
+        schedulers.values().forEach(Scheduler::dispose);
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+}
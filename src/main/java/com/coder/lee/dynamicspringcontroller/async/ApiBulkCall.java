@@ -0,0 +1,25 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import java.util.List;
+
+/**
+ * Description: {@link com.coder.lee.dynamicspringcontroller.annotation.MicroBatch} 方法合并后的一次批量方法调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/20 09:40
+ *
+ * direct 模式下由 ApiControllerGenerator 为每个批量合并的方法生成实现类，持有delegate，
+ * call() 中直接调用 delegate 的批量方法，无反射。
+ *
+ * @author coderLee23
+ */
+@FunctionalInterface
+public interface ApiBulkCall {
+
+    /**
+     * @param arguments 批量中各次调用的参数，按加入顺序
+     * @return 批量方法的返回值，与参数一一对应
+     */
+    List<?> call(List<Object> arguments) throws Throwable;
+
+}
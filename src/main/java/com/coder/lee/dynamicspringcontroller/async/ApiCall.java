@@ -0,0 +1,22 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+/**
+ * Description: 转移到线程池执行的一次API调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 14:30
+ *
+ * direct 模式下由 ApiControllerGenerator 为每个转移执行的方法生成实现类，持有delegate及本次调用的参数，
+ * call() 中直接调用 delegate 的接口方法，无反射、无参数数组。
+ *
+ * @author coderLee23
+ */
+@FunctionalInterface
+public interface ApiCall {
+
+    /**
+     * @return 实现类方法的返回值，基本类型装箱，void 方法返回 null
+     */
+    Object call() throws Throwable;
+
+}
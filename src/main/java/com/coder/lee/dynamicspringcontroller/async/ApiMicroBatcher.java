@@ -0,0 +1,220 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.annotation.MicroBatch;
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import com.coder.lee.dynamicspringcontroller.interceptor.ControllerInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: {@link MicroBatch} 方法的调用入口，将并发的单个调用按数量或时间窗口合并为一次批量方法调用，再按顺序分发结果
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:50
+ *
+ * 每个endpoint一个实例；批量方法在API的 blocking 线程池(如有)或共用的批量线程池中执行，
+ * direct 模式通过生成的 {@link ApiBulkCall} 直接调用，proxy 模式反射调用。
+ *
+ * @author coderLee23
+ */
+public class ApiMicroBatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiMicroBatcher.class);
+
+    private final ApiEndpoint endpoint;
+
+    private final int maxSize;
+
+    private final long maxDelayMillis;
+
+    private final ScheduledExecutorService timer;
+
+    private final Executor executor;
+
+    private final Object lock = new Object();
+
+    /**
+     * 收集中的批量，guarded by lock
+     */
+    private Window current;
+
+    public ApiMicroBatcher(ApiEndpoint endpoint, ScheduledExecutorService timer, Executor executor) {
+        MicroBatch microBatch = AnnotationUtils.findAnnotation(endpoint.getMethod(), MicroBatch.class);
+        this.endpoint = endpoint;
+        this.maxSize = Math.max(1, microBatch.maxSize());
+        this.maxDelayMillis = Math.max(0, microBatch.maxDelayMillis());
+        this.timer = timer;
+        this.executor = executor;
+    }
+
+    /**
+     * @return {@link MicroBatch} 方法在API接口中对应的批量方法，未标记或不满足条件时返回 null
+     */
+    public static Method findBulkMethod(Class<?> apiInterface, Method method) {
+        MicroBatch microBatch = AnnotationUtils.findAnnotation(method, MicroBatch.class);
+        if (microBatch == null) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (method.getParameterCount() != 1 || returnType.isPrimitive()
+                || CompletionStage.class.isAssignableFrom(returnType) || Publisher.class.isAssignableFrom(returnType)) {
+            LOGGER.warn("@MicroBatch on {}#{} ignored, only synchronous single-parameter methods returning an object can be batched", apiInterface.getSimpleName(), method.getName());
+            return null;
+        }
+        String name = StringUtils.hasText(microBatch.method()) ? microBatch.method() : method.getName();
+        Method bulkMethod = ReflectionUtils.findMethod(apiInterface, name, List.class);
+        if (bulkMethod == null || !List.class.isAssignableFrom(bulkMethod.getReturnType())) {
+            LOGGER.warn("@MicroBatch on {}#{} ignored, {}(List) returning List not found", apiInterface.getSimpleName(), method.getName(), name);
+            return null;
+        }
+        return bulkMethod;
+    }
+
+    /**
+     * direct 模式
+     *
+     * @param bulkCall 生成的批量方法调用，批量由首个加入的调用的 bulkCall 执行
+     * @param argument controller方法的参数
+     */
+    public static CompletableFuture<Object> submit(ApiEndpoint[] endpoints, int index, ApiBulkCall bulkCall, Object argument) {
+        return endpoints[index].getMicroBatcher().add(bulkCall, argument);
+    }
+
+    /**
+     * proxy 模式：批量方法反射调用 XXXAPIImpl
+     */
+    public static CompletableFuture<Object> submit(ApiEndpoint[] endpoints, int index, InvocationHandler invocationHandler, Object argument) {
+        ApiEndpoint endpoint = endpoints[index];
+        return submit(endpoints, index, reflectiveCall(endpoint.getBulkMethod(), ((ControllerInterceptor) invocationHandler).getDelegate()), argument);
+    }
+
+    /**
+     * 响应式 direct 模式，订阅时才加入批量
+     */
+    public static Mono<Object> submitReactive(ApiEndpoint[] endpoints, int index, ApiBulkCall bulkCall, Object argument) {
+        return Mono.defer(() -> Mono.fromFuture(submit(endpoints, index, bulkCall, argument)));
+    }
+
+    /**
+     * 响应式 proxy 模式
+     */
+    public static Mono<Object> submitReactive(ApiEndpoint[] endpoints, int index, InvocationHandler invocationHandler, Object argument) {
+        return Mono.defer(() -> Mono.fromFuture(submit(endpoints, index, invocationHandler, argument)));
+    }
+
+    private static ApiBulkCall reflectiveCall(Method bulkMethod, Object delegate) {
+        return arguments -> {
+            try {
+                return (List<?>) bulkMethod.invoke(delegate, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    private CompletableFuture<Object> add(ApiBulkCall bulkCall, Object argument) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Window opened = null;
+        Window full = null;
+        synchronized (lock) {
+            if (current == null) {
+                current = new Window(bulkCall, maxSize);
+                opened = current;
+            }
+            current.arguments.add(argument);
+            current.futures.add(future);
+            if (current.arguments.size() >= maxSize) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            // 批量已满，由当前调用立即提交
+            dispatch(full);
+        } else if (opened != null) {
+            Window window = opened;
+            timer.schedule(() -> flush(window), maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    private void flush(Window window) {
+        synchronized (lock) {
+            if (current != window) {
+                // 已因批量满提交
+                return;
+            }
+            current = null;
+        }
+        dispatch(window);
+    }
+
+    private void dispatch(Window window) {
+        try {
+            executor.execute(() -> invoke(window));
+        } catch (RejectedExecutionException e) {
+            window.fail(new StacklessResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, endpoint + " is busy", e));
+        }
+    }
+
+    private void invoke(Window window) {
+        List<?> results;
+        try {
+            results = window.bulkCall.call(window.arguments);
+        } catch (Throwable e) {
+            window.fail(e);
+            return;
+        }
+        if (results == null || results.size() != window.futures.size()) {
+            window.fail(new IllegalStateException(endpoint.getBulkMethod() + " returned " + (results == null ? "null" : results.size() + " results")
+                    + " for " + window.futures.size() + " arguments"));
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            window.futures.get(i).complete(results.get(i));
+        }
+    }
+
+    /**
+     * 一次批量调用的参数及等待结果的调用
+     */
+    private static class Window {
+
+        private final ApiBulkCall bulkCall;
+
+        private final List<Object> arguments;
+
+        private final List<CompletableFuture<Object>> futures;
+
+        Window(ApiBulkCall bulkCall, int maxSize) {
+            this.bulkCall = bulkCall;
+            this.arguments = new ArrayList<>(maxSize);
+            this.futures = new ArrayList<>(maxSize);
+        }
+
+        void fail(Throwable error) {
+            futures.forEach(future -> future.completeExceptionally(error));
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Description: 为 {@link com.coder.lee.dynamicspringcontroller.annotation.MicroBatch} endpoint 创建批量调用器，持有共用的计时线程及批量线程池
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:50
+ *
+ * @author coderLee23
+ */
+public class ApiMicroBatchers {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiMicroBatchers.class);
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final int threads;
+
+    /**
+     * 时间窗口到期提交批量，只做调度
+     */
+    private ScheduledThreadPoolExecutor timer;
+
+    /**
+     * 未声明 @Blocking 的API执行批量方法
+     */
+    private ThreadPoolExecutor executor;
+
+    public ApiMicroBatchers(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * 为 @MicroBatch endpoint 绑定批量调用器，需在 {@link ApiBlockingExecutors#bind(List)} 之后调用
+     */
+    public synchronized void bind(List<ApiEndpoint> endpoints) {
+        for (ApiEndpoint endpoint : endpoints) {
+            if (endpoint.isMicroBatched()) {
+                Executor blockingExecutor = endpoint.getExecutor();
+                endpoint.setMicroBatcher(new ApiMicroBatcher(endpoint, getTimer(), blockingExecutor != null ? blockingExecutor : getExecutor()));
+            }
+        }
+    }
+
+    private ScheduledThreadPoolExecutor getTimer() {
+        if (timer == null) {
+            timer = new ScheduledThreadPoolExecutor(1, runnable -> newThread(runnable, "api-micro-batch-timer"));
+            timer.setRemoveOnCancelPolicy(true);
+        }
+        return timer;
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            // 队列满时抛出 RejectedExecutionException，批量中的调用返回503
+            executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                    runnable -> newThread(runnable, "api-micro-batch-" + threadNumber.incrementAndGet()),
+                    new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            LOGGER.info("api micro batch executor threads: {}, queue capacity: {}", threads, QUEUE_CAPACITY);
+        }
+        return executor;
+    }
+
+    private static Thread newThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public synchronized void shutdown() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+}
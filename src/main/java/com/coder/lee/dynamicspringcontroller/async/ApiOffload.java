@@ -0,0 +1,57 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Description: generated controller中 blocking 方法的调用入口，将调用转移到API的线程池并返回 CompletableFuture
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 18:20
+ *
+ * servlet线程提交后立即返回，spring mvc以异步请求的方式在future完成时写回响应。
+ *
+ * @author coderLee23
+ */
+public final class ApiOffload {
+
+    private ApiOffload() {
+    }
+
+    /**
+     * direct 模式：在线程池中执行生成的调用
+     */
+    public static CompletableFuture<Object> submit(ApiEndpoint[] endpoints, int index, ApiCall call) {
+        return submit(endpoints[index], call);
+    }
+
+    /**
+     * proxy 模式：在线程池中调用 InvocationHandler
+     */
+    public static CompletableFuture<Object> submit(ApiEndpoint[] endpoints, int index, InvocationHandler invocationHandler, Object controller, Object[] args) {
+        ApiEndpoint endpoint = endpoints[index];
+        return submit(endpoint, () -> invocationHandler.invoke(controller, endpoint.getMethod(), args));
+    }
+
+    private static CompletableFuture<Object> submit(ApiEndpoint endpoint, ApiCall call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            endpoint.getExecutor().execute(() -> {
+                try {
+                    future.complete(call.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new StacklessResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, endpoint + " is busy", e);
+        }
+        return future;
+    }
+
+}
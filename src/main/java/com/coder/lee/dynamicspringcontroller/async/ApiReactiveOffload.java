@@ -0,0 +1,60 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Description: 响应式controller中同步方法的调用入口，返回在 boundedElastic 或API的 blocking 线程池中执行的 Mono
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:10
+ *
+ * @author coderLee23
+ */
+public final class ApiReactiveOffload {
+
+    private ApiReactiveOffload() {
+    }
+
+    /**
+     * direct 模式：执行生成的调用
+     */
+    public static Mono<Object> submit(ApiEndpoint[] endpoints, int index, ApiCall call) {
+        return submit(endpoints[index], call);
+    }
+
+    /**
+     * proxy 模式
+     */
+    public static Mono<Object> submit(ApiEndpoint[] endpoints, int index, InvocationHandler invocationHandler, Object controller, Object[] args) {
+        ApiEndpoint endpoint = endpoints[index];
+        return submit(endpoint, () -> invocationHandler.invoke(controller, endpoint.getMethod(), args));
+    }
+
+    private static Mono<Object> submit(ApiEndpoint endpoint, ApiCall call) {
+        return Mono.defer(() -> {
+            try {
+                return Mono.justOrEmpty(call.call());
+            } catch (Throwable e) {
+                return Mono.error(e);
+            }
+        }).subscribeOn(getScheduler(endpoint))
+                .onErrorMap(RejectedExecutionException.class, e -> new StacklessResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, endpoint + " is busy", e));
+    }
+
+    /**
+     * @return blocking方法在所属API的线程池上执行(由 {@link ApiBlockingExecutors} 创建和关闭)，其余在 boundedElastic 上执行
+     */
+    private static Scheduler getScheduler(ApiEndpoint endpoint) {
+        Scheduler scheduler = endpoint.getScheduler();
+        return scheduler != null ? scheduler : Schedulers.boundedElastic();
+    }
+
+}
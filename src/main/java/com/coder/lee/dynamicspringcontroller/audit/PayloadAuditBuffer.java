@@ -0,0 +1,149 @@
+package com.coder.lee.dynamicspringcontroller.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Description: 有界审计缓冲区，请求线程只做非阻塞入队，写日志在独立的审计线程中完成
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 11:20
+ *
+ * @author coderLee23
+ */
+public class PayloadAuditBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PayloadAuditBuffer.class);
+
+    /**
+     * 审计日志单独的logger，便于独立配置appender
+     */
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("API_AUDIT");
+
+    private final BlockingQueue<PayloadAuditRecord> queue;
+
+    /**
+     * 队列剩余位置，请求线程先占位再序列化，队列满时不做无用的序列化
+     */
+    private final Semaphore slots;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public PayloadAuditBuffer(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.slots = new Semaphore(capacity);
+    }
+
+    /**
+     * 非阻塞占用一个队列位置，队列满时计为丢弃，调用方不再创建记录
+     *
+     * @return 是否占位成功，成功后必须调用 {@link #put(PayloadAuditRecord)}
+     */
+    public boolean tryReserve() {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * 入队已占位的记录，占位数不超过队列容量，不会阻塞
+     */
+    public void put(PayloadAuditRecord record) {
+        queue.add(record);
+    }
+
+    /**
+     * 非阻塞入队，队列满时丢弃
+     *
+     * @return 是否入队成功
+     */
+    public boolean offer(PayloadAuditRecord record) {
+        if (!tryReserve()) {
+            return false;
+        }
+        put(record);
+        return true;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drain, "api-payload-audit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            PayloadAuditRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                // 停止时把剩余记录写完
+                record = queue.poll();
+                if (record == null) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            slots.release();
+            write(record);
+        }
+    }
+
+    private void write(PayloadAuditRecord record) {
+        try {
+            if (record.getError() == null) {
+                AUDIT_LOGGER.info("[{}] {} {}us args={} result={}", record.getReason(), record.getEndpoint(),
+                        TimeUnit.NANOSECONDS.toMicros(record.getElapsedNanos()),
+                        record.getArguments(), record.getResult());
+            } else {
+                AUDIT_LOGGER.info("[{}] {} {}us args={} error={}", record.getReason(), record.getEndpoint(),
+                        TimeUnit.NANOSECONDS.toMicros(record.getElapsedNanos()),
+                        record.getArguments(), record.getError());
+            }
+            written.increment();
+        } catch (RuntimeException e) {
+            LOGGER.error("write payload audit of {} error", record.getEndpoint(), e);
+        }
+    }
+
+    /**
+     * @return 因队列满被丢弃的记录数
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public int getPending() {
+        return queue.size();
+    }
+
+}
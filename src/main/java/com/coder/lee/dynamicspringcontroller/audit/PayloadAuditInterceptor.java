@@ -0,0 +1,109 @@
+package com.coder.lee.dynamicspringcontroller.audit;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Description: 按endpoint采样的报文审计拦截器，只记录采样命中、慢调用或异常调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 11:20
+ *
+ * 只有采样命中且缓冲区有空位的调用在请求线程上序列化参数与返回值(避免之后被修改)，写日志由 {@link PayloadAuditBuffer} 异步完成。
+ *
+ * @author coderLee23
+ */
+public class PayloadAuditInterceptor implements EndpointInterceptor, Ordered {
+
+    private final PayloadAuditProperties properties;
+
+    private final PayloadAuditBuffer buffer;
+
+    private final Map<ApiEndpoint, Sampler> samplers = new ConcurrentHashMap<>();
+
+    public PayloadAuditInterceptor(PayloadAuditProperties properties, PayloadAuditBuffer buffer) {
+        this.properties = properties;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void bind(ApiEndpoint endpoint) {
+        PayloadAuditProperties.Policy policy = properties.getEndpoints().get(endpoint.getApiInterface().getSimpleName() + "." + endpoint.getName());
+        if (policy == null) {
+            policy = properties.getEndpoints().get(endpoint.getName());
+        }
+        samplers.put(endpoint, new Sampler(properties, policy));
+    }
+
+    @Override
+    public void unbind(ApiEndpoint endpoint) {
+        samplers.remove(endpoint);
+    }
+
+    @Override
+    public void after(ApiInvocation invocation) {
+        Sampler sampler = samplers.get(invocation.getEndpoint());
+        if (sampler == null) {
+            return;
+        }
+        long elapsedNanos = invocation.getElapsedNanos();
+        PayloadAuditRecord.Reason reason = sampler.isSlow(elapsedNanos) ? PayloadAuditRecord.Reason.SLOW
+                : sampler.isSampled() ? PayloadAuditRecord.Reason.SAMPLED : null;
+        if (reason != null && buffer.tryReserve()) {
+            buffer.put(new PayloadAuditRecord(invocation.getEndpoint(), reason, elapsedNanos, invocation.getArguments(), invocation.getResult(), null));
+        }
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        Sampler sampler = samplers.get(invocation.getEndpoint());
+        if (sampler != null && sampler.logErrors && buffer.tryReserve()) {
+            buffer.put(new PayloadAuditRecord(invocation.getEndpoint(), PayloadAuditRecord.Reason.ERROR, invocation.getElapsedNanos(), invocation.getArguments(), null, error));
+        }
+    }
+
+    /**
+     * 审计放在拦截链最内层，耗时只统计XXXAPIImpl本身
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private static class Sampler {
+
+        private final int sampleRate;
+
+        private final long slowThresholdNanos;
+
+        private final boolean logErrors;
+
+        Sampler(PayloadAuditProperties defaults, PayloadAuditProperties.Policy policy) {
+            Integer rate = policy == null ? null : policy.getSampleRate();
+            Duration slowThreshold = policy == null ? null : policy.getSlowThreshold();
+            Boolean errors = policy == null ? null : policy.getLogErrors();
+            this.sampleRate = rate == null ? defaults.getSampleRate() : rate;
+            slowThreshold = slowThreshold == null ? defaults.getSlowThreshold() : slowThreshold;
+            this.slowThresholdNanos = slowThreshold == null ? Long.MAX_VALUE : slowThreshold.toNanos();
+            this.logErrors = errors == null ? defaults.isLogErrors() : errors;
+        }
+
+        boolean isSampled() {
+            // 1-in-N 随机采样，无共享计数器竞争
+            return sampleRate > 0 && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+        }
+
+        boolean isSlow(long elapsedNanos) {
+            return elapsedNanos >= slowThresholdNanos;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.coder.lee.dynamicspringcontroller.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Description: 请求/响应报文审计日志配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 11:20
+ *
+ * <pre>
+ * api.audit.enabled=true
+ * api.audit.sample-rate=100
+ * api.audit.slow-threshold=500ms
+ * api.audit.endpoints.say_String.sample-rate=1
+ * api.audit.endpoints[SayAPI.say_Word].log-errors=false
+ * </pre>
+ *
+ * @author coderLee23
+ */
+@Data
+@ConfigurationProperties(prefix = "api.audit")
+public class PayloadAuditProperties {
+
+    /**
+     * 是否开启报文审计
+     */
+    private boolean enabled;
+
+    /**
+     * 异步序列化队列容量，队列满时丢弃并计数
+     */
+    private int bufferSize = 1024;
+
+    /**
+     * 默认每N次调用采样1次，0 表示不按比例采样
+     */
+    private int sampleRate = 100;
+
+    /**
+     * 默认耗时超过该阈值的调用必定记录，为空表示不按耗时记录
+     */
+    private Duration slowThreshold;
+
+    /**
+     * 默认是否记录异常调用
+     */
+    private boolean logErrors = true;
+
+    /**
+     * 按endpoint覆盖采样策略，key 为 say_String 或 SayAPI.say_String
+     */
+    private Map<String, Policy> endpoints = new LinkedHashMap<>();
+
+    /**
+     * endpoint级别的覆盖配置，未配置的项沿用默认值
+     */
+    @Data
+    public static class Policy {
+
+        private Integer sampleRate;
+
+        private Duration slowThreshold;
+
+        private Boolean logErrors;
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.coder.lee.dynamicspringcontroller.audit;
+
+import com.alibaba.fastjson.JSON;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+
+/**
+ * Description: 一条待写出的审计记录，创建时即序列化参数与返回值，之后对象被修改不影响审计内容
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 11:20
+ *
+ * @author coderLee23
+ */
+public class PayloadAuditRecord {
+
+    public enum Reason {
+        SAMPLED, SLOW, ERROR
+    }
+
+    private final ApiEndpoint endpoint;
+
+    private final Reason reason;
+
+    private final long timestamp;
+
+    private final long elapsedNanos;
+
+    /**
+     * 参数json
+     */
+    private final String arguments;
+
+    /**
+     * 返回值json，异常调用为 null
+     */
+    private final String result;
+
+    /**
+     * 异常描述，正常调用为 null
+     */
+    private final String error;
+
+    public PayloadAuditRecord(ApiEndpoint endpoint, Reason reason, long elapsedNanos, Object[] arguments, Object result, Throwable error) {
+        this.endpoint = endpoint;
+        this.reason = reason;
+        this.timestamp = System.currentTimeMillis();
+        this.elapsedNanos = elapsedNanos;
+        this.arguments = toJson(arguments);
+        this.result = error == null ? toJson(result) : null;
+        this.error = error == null ? null : error.toString();
+    }
+
+    /**
+     * 序列化失败不影响请求，记录失败原因
+     */
+    private static String toJson(Object value) {
+        try {
+            return JSON.toJSONString(value);
+        } catch (RuntimeException e) {
+            return "<unserializable: " + e + ">";
+        }
+    }
+
+    public ApiEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public String getArguments() {
+        return arguments;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.coder.lee.dynamicspringcontroller.batch;
+
+import com.alibaba.fastjson.JSONArray;
+import lombok.Data;
+
+/**
+ * Description: 批量调用中的一次调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 17:40
+ *
+ * @author coderLee23
+ */
+@Data
+public class ApiBatchCall {
+
+    /**
+     * 映射名称，如 say_String
+     */
+    private String method;
+
+    /**
+     * 按方法参数顺序排列的参数
+     */
+    private JSONArray args;
+
+}
@@ -0,0 +1,97 @@
+package com.coder.lee.dynamicspringcontroller.batch;
+
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Description: 执行批量调用，所有API共用一个有界线程池
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 17:40
+ *
+ * 并行度小于等于1时在请求线程中依次执行；线程池队列满时由请求线程执行，不会无限堆积。
+ * 参数校验使用容器中的 Validator(spring boot 的 defaultValidator)，与单次请求的校验共用配置及元数据缓存，首次批量调用时才获取。
+ *
+ * @author coderLee23
+ */
+public class ApiBatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiBatchExecutor.class);
+
+    private final int parallelism;
+
+    private final int maxSize;
+
+    private final ThreadPoolExecutor executor;
+
+    private final SingletonSupplier<Validator> validator;
+
+    public ApiBatchExecutor(int parallelism, int maxSize, Supplier<Validator> validator) {
+        this.parallelism = parallelism;
+        this.maxSize = maxSize;
+        this.validator = SingletonSupplier.of(validator);
+        this.executor = parallelism > 1 ? newExecutor(parallelism) : null;
+        LOGGER.info("api batch parallelism: {}, max size: {}", parallelism, maxSize);
+    }
+
+    private static ThreadPoolExecutor newExecutor(int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "api-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @param calls 每次调用，调用自身不抛出异常
+     * @return 与calls顺序一致的结果
+     */
+    public List<ApiBatchResult> execute(List<Supplier<ApiBatchResult>> calls) {
+        if (calls.size() > maxSize) {
+            throw new StacklessResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "batch size " + calls.size() + " exceeds " + maxSize);
+        }
+        List<ApiBatchResult> results = new ArrayList<>(calls.size());
+        if (executor == null || calls.size() <= 1) {
+            calls.forEach(call -> results.add(call.get()));
+            return results;
+        }
+        List<CompletableFuture<ApiBatchResult>> futures = new ArrayList<>(calls.size());
+        calls.forEach(call -> futures.add(CompletableFuture.supplyAsync(call, executor)));
+        futures.forEach(future -> results.add(future.join()));
+        return results;
+    }
+
+    public Validator getValidator() {
+        return validator.obtain();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.coder.lee.dynamicspringcontroller.batch;
+
+import com.alibaba.fastjson.JSONArray;
+import com.coder.lee.dynamicspringcontroller.registry.ApiArguments;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Description: 一个generated controller的批量调用入口，由controller的 _batch 方法调用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 17:40
+ *
+ * 每次调用经由controller中生成的方法执行，与单次请求一样经过织入的拦截链。
+ *
+ * @author coderLee23
+ */
+public class ApiBatchInvoker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiBatchInvoker.class);
+
+    /**
+     * generated controller 中保存 ApiBatchInvoker 的静态字段名
+     */
+    public static final String INVOKER_FIELD = "batchInvoker";
+
+    /**
+     * 标记当前请求为批量调用的请求属性，拦截器据此区分请求线程中执行的批量调用与单次请求
+     */
+    public static final String BATCH_ATTRIBUTE = ApiBatchInvoker.class.getName() + ".BATCH";
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * 映射名称 -> 调用方式
+     */
+    private final Map<String, BatchMethod> methods;
+
+    private final ApiBatchExecutor executor;
+
+    public ApiBatchInvoker(Class<?> controllerClazz, List<ApiEndpoint> endpoints, ApiBatchExecutor executor) {
+        Map<String, Method> controllerMethods = ApiControllerGenerator.getControllerMethods(controllerClazz);
+        Map<String, BatchMethod> methods = new HashMap<>();
+        for (ApiEndpoint endpoint : endpoints) {
+            Method controllerMethod = controllerMethods.get(endpoint.getName());
+            Assert.notNull(controllerMethod, "controller method of " + endpoint + " not found");
+            methods.put(endpoint.getName(), new BatchMethod(endpoint, controllerMethod));
+        }
+        this.methods = methods;
+        this.executor = executor;
+    }
+
+    public List<ApiBatchResult> invoke(Object controller, List<ApiBatchCall> calls) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(BATCH_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        List<Supplier<ApiBatchResult>> suppliers = new ArrayList<>(calls.size());
+        calls.forEach(call -> suppliers.add(() -> invoke(controller, call)));
+        return executor.execute(suppliers);
+    }
+
+    /**
+     * @return 当前请求是否为批量调用
+     */
+    public static boolean isBatch(RequestAttributes attributes) {
+        return Boolean.TRUE.equals(attributes.getAttribute(BATCH_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    /**
+     * 响应式controller的批量调用，在 boundedElastic 中执行
+     */
+    public Mono<List<ApiBatchResult>> invokeReactive(Object controller, List<ApiBatchCall> calls) {
+        return Mono.fromCallable(() -> invoke(controller, calls)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private ApiBatchResult invoke(Object controller, ApiBatchCall call) {
+        BatchMethod method = call == null ? null : methods.get(call.getMethod());
+        if (method == null) {
+            return ApiBatchResult.error(HttpStatus.NOT_FOUND, "method not found: " + (call == null ? null : call.getMethod()));
+        }
+        Object[] args;
+        try {
+            args = method.resolveArguments(call.getArgs());
+        } catch (RuntimeException e) {
+            return ApiBatchResult.error(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase() + ":" + e.getMessage());
+        }
+        String violation = method.validated ? validate(args) : null;
+        if (violation != null) {
+            return ApiBatchResult.error(HttpStatus.BAD_REQUEST, violation);
+        }
+        try {
+            Object result = method.invoker.invoke(controller, args);
+            if (result instanceof CompletionStage) {
+                // 异步方法或blocking方法，等待其完成
+                result = ((CompletionStage<?>) result).toCompletableFuture().join();
+            } else if (result instanceof Mono) {
+                result = ((Mono<?>) result).toFuture().join();
+            }
+            return ApiBatchResult.ok(result);
+        } catch (CompletionException e) {
+            return toErrorResult(method, e.getCause() != null ? e.getCause() : e);
+        } catch (Throwable e) {
+            return toErrorResult(method, e);
+        }
+    }
+
+    private ApiBatchResult toErrorResult(BatchMethod method, Throwable e) {
+        if (e instanceof ConstraintViolationException) {
+            return ApiBatchResult.error(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (e instanceof ResponseStatusException) {
+            ResponseStatusException statusException = (ResponseStatusException) e;
+            return ApiBatchResult.error(statusException.getStatus(), statusException.getReason());
+        }
+        LOGGER.error("batch call {} error", method.endpoint, e);
+        return ApiBatchResult.error(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+    }
+
+    private String validate(Object[] args) {
+        for (Object arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            Set<ConstraintViolation<Object>> violations = executor.getValidator().validate(arg);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<Object> violation = violations.iterator().next();
+                return String.format("%s:%s", violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 一个endpoint的批量调用方式：controller方法的 MethodHandle 及参数解析
+     */
+    private static class BatchMethod {
+
+        private final ApiEndpoint endpoint;
+
+        private final Type[] parameterTypes;
+
+        /**
+         * (controller, Object[] args) -> result
+         */
+        private final MethodHandle invoker;
+
+        /**
+         * 多参数方法的参数容器，单参数或无参时为 null
+         */
+        private final Class<?> argumentsClazz;
+
+        private final Field[] argumentsFields;
+
+        /**
+         * 与controller一致，只校验织入了 @Validated 的参数(单参数或多参数的参数容器)
+         */
+        private final boolean validated;
+
+        BatchMethod(ApiEndpoint endpoint, Method controllerMethod) {
+            this.endpoint = endpoint;
+            this.validated = Arrays.stream(controllerMethod.getParameters()).anyMatch(parameter -> parameter.isAnnotationPresent(Validated.class));
+            this.parameterTypes = endpoint.getMethod().getGenericParameterTypes();
+            try {
+                this.invoker = MethodHandles.publicLookup().unreflect(controllerMethod)
+                        .asSpreader(Object[].class, controllerMethod.getParameterCount())
+                        .asType(INVOKER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("controller method " + controllerMethod + " is not accessible", e);
+            }
+            Class<?>[] controllerParameterTypes = controllerMethod.getParameterTypes();
+            if (controllerParameterTypes.length == 1 && ApiArguments.class.isAssignableFrom(controllerParameterTypes[0])) {
+                argumentsClazz = controllerParameterTypes[0];
+                Parameter[] parameters = endpoint.getMethod().getParameters();
+                argumentsFields = new Field[parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    argumentsFields[i] = ReflectionUtils.findField(argumentsClazz, parameters[i].getName());
+                }
+            } else {
+                argumentsClazz = null;
+                argumentsFields = null;
+            }
+        }
+
+        Object[] resolveArguments(JSONArray args) {
+            int size = args == null ? 0 : args.size();
+            if (size != parameterTypes.length) {
+                throw new IllegalArgumentException(endpoint.getName() + " requires " + parameterTypes.length + " args but " + size);
+            }
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = args.getObject(i, parameterTypes[i]);
+            }
+            if (argumentsClazz == null) {
+                return values;
+            }
+            Object arguments = BeanUtils.instantiateClass(argumentsClazz);
+            for (int i = 0; i < values.length; i++) {
+                ReflectionUtils.setField(argumentsFields[i], arguments, values[i]);
+            }
+            return new Object[]{arguments};
+        }
+
+    }
+
+}
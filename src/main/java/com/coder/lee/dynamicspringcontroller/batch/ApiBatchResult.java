@@ -0,0 +1,37 @@
+package com.coder.lee.dynamicspringcontroller.batch;
+
+import lombok.Data;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Description: 批量调用中一次调用的结果，与请求中的调用顺序一致
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 17:40
+ *
+ * @author coderLee23
+ */
+@Data
+public class ApiBatchResult {
+
+    private int status;
+
+    private Object result;
+
+    private String error;
+
+    public static ApiBatchResult ok(Object result) {
+        ApiBatchResult batchResult = new ApiBatchResult();
+        batchResult.status = HttpStatus.OK.value();
+        batchResult.result = result;
+        return batchResult;
+    }
+
+    public static ApiBatchResult error(HttpStatus status, String error) {
+        ApiBatchResult batchResult = new ApiBatchResult();
+        batchResult.status = status.value();
+        batchResult.error = error;
+        return batchResult;
+    }
+
+}
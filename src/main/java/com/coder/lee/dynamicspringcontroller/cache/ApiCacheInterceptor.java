@@ -0,0 +1,132 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import com.coder.lee.dynamicspringcontroller.annotation.ApiCacheable;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchInvoker;
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: {@link ApiCacheable} 方法的响应缓存：命中时短路调用，由 {@link ApiCacheResponseBodyAdvice} 直接输出缓存的报文
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * @author coderLee23
+ */
+public class ApiCacheInterceptor implements EndpointInterceptor, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiCacheInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<ApiEndpoint, ApiResponseCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 按 api#method 共享，endpoint热替换后沿用同一缓存(解绑时已清空)
+     */
+    private final Map<String, ApiResponseCache> cachesByName = new ConcurrentHashMap<>();
+
+    public ApiCacheInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(ApiEndpoint endpoint) {
+        if (AnnotationUtils.findAnnotation(endpoint.getMethod(), ApiCacheable.class) == null) {
+            return false;
+        }
+        if (endpoint.isAsync() || endpoint.isOffloaded() || endpoint.getMethod().getReturnType().isPrimitive()) {
+            LOGGER.warn("@ApiCacheable on {} ignored, only synchronous methods returning an object can be cached", endpoint);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void bind(ApiEndpoint endpoint) {
+        ApiCacheable cacheable = AnnotationUtils.findAnnotation(endpoint.getMethod(), ApiCacheable.class);
+        caches.put(endpoint, cachesByName.computeIfAbsent(endpoint.toString(), name -> new ApiResponseCache(name, cacheable, meterRegistry)));
+    }
+
+    @Override
+    public void unbind(ApiEndpoint endpoint) {
+        ApiResponseCache cache = caches.remove(endpoint);
+        if (cache != null) {
+            // 新的实现类可能返回不同的结果
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void before(ApiInvocation invocation) {
+        ApiResponseCache cache = caches.get(invocation.getEndpoint());
+        if (cache == null) {
+            return;
+        }
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return;
+        }
+        // 不同 Accept 协商出的报文格式不同，分开缓存
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        String key = StringUtils.hasText(accept) ? accept + ' ' + invocation.getArgumentsKey() : invocation.getArgumentsKey();
+        CachedResponse hit = cache.get(key);
+        request.setAttribute(CacheLookup.ATTRIBUTE, new CacheLookup(cache, key, hit));
+        if (hit != null) {
+            // 返回值不再使用，报文由 ApiCacheResponseBodyAdvice 输出
+            invocation.shortCircuit(null);
+        }
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        if (!caches.containsKey(invocation.getEndpoint())) {
+            return;
+        }
+        HttpServletRequest request = currentRequest();
+        if (request != null) {
+            // 异常响应不缓存
+            request.removeAttribute(CacheLookup.ATTRIBUTE);
+        }
+    }
+
+    /**
+     * @return 单次调用的servlet请求；批量调用(由 {@link ApiBatchInvoker} 标记)、非servlet线程返回 null
+     */
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        // 批量调用在请求线程中执行时，当前请求是 _batch 请求
+        return ApiBatchInvoker.isBatch(attributes) ? null : ((ServletRequestAttributes) attributes).getRequest();
+    }
+
+    public ApiResponseCache getCache(ApiEndpoint endpoint) {
+        return caches.get(endpoint);
+    }
+
+    /**
+     * 在指标之后、准入控制之前执行，命中的请求计入指标但不占用并发限制
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 5;
+    }
+
+}
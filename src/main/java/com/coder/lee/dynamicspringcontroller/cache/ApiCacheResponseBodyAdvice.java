@@ -0,0 +1,82 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import com.coder.lee.dynamicspringcontroller.annotation.ApiCacheable;
+import com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Description: 输出 {@link ApiCacheable} 方法的响应：命中时直接写出缓存的字节，未命中时序列化一次并写入缓存
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * 在 {@link IdempotentGetResponseBodyAdvice} 之前执行，同时标注 {@link IdempotentGet} 的方法由本类处理ETag及304。
+ *
+ * @author coderLee23
+ */
+@ControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApiCacheResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseSerializer serializer;
+
+    public ApiCacheResponseBodyAdvice(HttpMessageConverters httpMessageConverters) {
+        this.serializer = new ResponseSerializer(httpMessageConverters.getConverters());
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        Object attribute = servletRequest.getAttribute(CacheLookup.ATTRIBUTE);
+        if (!(attribute instanceof CacheLookup)) {
+            return body;
+        }
+        servletRequest.removeAttribute(CacheLookup.ATTRIBUTE);
+        CacheLookup lookup = (CacheLookup) attribute;
+        CachedResponse cached = lookup.getHit();
+        if (cached == null) {
+            if (body == null) {
+                return null;
+            }
+            cached = serializer.serialize(body, returnType, selectedContentType, selectedConverterType);
+            lookup.getCache().put(lookup.getKey(), cached);
+        }
+        IdempotentGet idempotentGet = returnType.getMethodAnnotation(IdempotentGet.class);
+        if (idempotentGet != null && response instanceof ServletServerHttpResponse
+                && ConditionalGet.checkNotModified(servletRequest, ((ServletServerHttpResponse) response).getServletResponse(), idempotentGet, cached.getETag())) {
+            // ETag随缓存保存，命中时判断304无需序列化
+            return null;
+        }
+        serializer.write(cached, response);
+        // 报文已输出，不再经过 message converter
+        return null;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import com.coder.lee.dynamicspringcontroller.annotation.ApiCacheable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Description: 一个 {@link ApiCacheable} endpoint 的响应缓存
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * @author coderLee23
+ */
+public class ApiResponseCache {
+
+    private final String name;
+
+    private final Cache<String, CachedResponse> cache;
+
+    public ApiResponseCache(String name, ApiCacheable cacheable, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheable.maximumSize())
+                .expireAfterWrite(cacheable.expireAfterWrite(), cacheable.timeUnit())
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            // cache.gets{cache=SayAPI#say_String,result=hit|miss}、cache.evictions 等
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name, Tags.of("cache.type", "api.response"));
+        }
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        cache.put(key, response);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+/**
+ * Description: {@link com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet} 方法的返回值实现此接口时，以版本号作为弱ETag
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 03:00
+ *
+ * 版本号在内容变化时必须变化(如数据行的版本列、更新时间)，If-None-Match 匹配时不再序列化响应。
+ * 方法名不是getter，不会被序列化到响应中。
+ *
+ * @author coderLee23
+ */
+public interface ApiVersioned {
+
+    String version();
+
+}
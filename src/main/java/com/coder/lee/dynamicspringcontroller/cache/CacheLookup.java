@@ -0,0 +1,42 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+/**
+ * Description: 一次请求的缓存查找结果，由 {@link ApiCacheInterceptor} 放入request属性，{@link ApiCacheResponseBodyAdvice} 输出响应时取出
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * @author coderLee23
+ */
+class CacheLookup {
+
+    static final String ATTRIBUTE = CacheLookup.class.getName();
+
+    private final ApiResponseCache cache;
+
+    private final String key;
+
+    /**
+     * 命中的响应，未命中为 null
+     */
+    private final CachedResponse hit;
+
+    CacheLookup(ApiResponseCache cache, String key, CachedResponse hit) {
+        this.cache = cache;
+        this.key = key;
+        this.hit = hit;
+    }
+
+    ApiResponseCache getCache() {
+        return cache;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    CachedResponse getHit() {
+        return hit;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Description: 已序列化的响应报文
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * @author coderLee23
+ */
+public class CachedResponse {
+
+    private final MediaType contentType;
+
+    private final byte[] body;
+
+    /**
+     * 返回值提供的版本号，或首次使用时由报文摘要计算
+     */
+    private volatile String etag;
+
+    public CachedResponse(MediaType contentType, byte[] body) {
+        this(contentType, body, null);
+    }
+
+    public CachedResponse(MediaType contentType, byte[] body, String etag) {
+        this.contentType = contentType;
+        this.body = body;
+        this.etag = etag;
+    }
+
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        String current = etag;
+        if (current == null) {
+            current = ConditionalGet.contentETag(body);
+            etag = current;
+        }
+        return current;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Description: {@link IdempotentGet} 响应的条件请求处理
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 03:00
+ *
+ * @author coderLee23
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static String versionETag(ApiVersioned versioned) {
+        // 同一版本可能以不同格式(json/cbor/smile)输出，只能是弱ETag
+        return "W/\"" + versioned.version() + "\"";
+    }
+
+    static String contentETag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    /**
+     * 输出 ETag、Cache-Control 及 Vary，If-None-Match 匹配时将响应置为304
+     *
+     * @return 是否已响应304，此时不应再输出报文
+     */
+    static boolean checkNotModified(HttpServletRequest request, HttpServletResponse response, IdempotentGet idempotentGet, String etag) {
+        if (StringUtils.hasText(idempotentGet.cacheControl())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, idempotentGet.cacheControl());
+        }
+        // 报文格式由 Accept 协商，代理须按 Accept 分别缓存
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+}
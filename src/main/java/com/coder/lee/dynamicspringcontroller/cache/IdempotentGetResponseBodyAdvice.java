@@ -0,0 +1,68 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Description: 输出 {@link IdempotentGet} 方法的 ETag、Cache-Control，If-None-Match 匹配时响应304且不输出报文
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 03:00
+ *
+ * 返回值为 {@link ApiVersioned} 时在序列化之前判断；否则序列化到缓冲区，以报文摘要判断后再决定是否输出。
+ * 同时标注 {@link com.coder.lee.dynamicspringcontroller.annotation.ApiCacheable} 的方法已由 {@link ApiCacheResponseBodyAdvice} 处理，body为 null。
+ *
+ * @author coderLee23
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IdempotentGetResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseSerializer serializer;
+
+    public IdempotentGetResponseBodyAdvice(HttpMessageConverters httpMessageConverters) {
+        this.serializer = new ResponseSerializer(httpMessageConverters.getConverters());
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(IdempotentGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest) || !(response instanceof ServletServerHttpResponse)) {
+            return body;
+        }
+        IdempotentGet idempotentGet = returnType.getMethodAnnotation(IdempotentGet.class);
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        HttpServletResponse servletResponse = ((ServletServerHttpResponse) response).getServletResponse();
+        if (body instanceof ApiVersioned) {
+            // 版本号即ETag，304时不序列化
+            String etag = ConditionalGet.versionETag((ApiVersioned) body);
+            return ConditionalGet.checkNotModified(servletRequest, servletResponse, idempotentGet, etag) ? null : body;
+        }
+        CachedResponse serialized = serializer.serialize(body, returnType, selectedContentType, selectedConverterType);
+        if (!ConditionalGet.checkNotModified(servletRequest, servletResponse, idempotentGet, serialized.getETag())) {
+            serializer.write(serialized, response);
+        }
+        // 报文已输出或响应304，不再经过 message converter
+        return null;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.coder.lee.dynamicspringcontroller.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Description: 在 ResponseBodyAdvice 中用选定的 message converter 把响应序列化为字节，及输出已序列化的报文
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 03:00
+ *
+ * @author coderLee23
+ */
+class ResponseSerializer {
+
+    private final List<HttpMessageConverter<?>> converters;
+
+    ResponseSerializer(List<HttpMessageConverter<?>> converters) {
+        // 使用与响应输出相同的 message converter 序列化，报文与不经过advice时一致
+        this.converters = converters;
+    }
+
+    @SuppressWarnings("unchecked")
+    CachedResponse serialize(Object body, MethodParameter returnType, MediaType contentType,
+                             Class<? extends HttpMessageConverter<?>> converterType) {
+        HttpMessageConverter<?> converter = converters.stream()
+                .filter(converterType::isInstance)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(converterType.getName() + " not found"));
+        BufferedOutputMessage buffer = new BufferedOutputMessage();
+        try {
+            if (converter instanceof GenericHttpMessageConverter) {
+                ((GenericHttpMessageConverter<Object>) converter).write(body, returnType.getGenericParameterType(), contentType, buffer);
+            } else {
+                ((HttpMessageConverter<Object>) converter).write(body, contentType, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String etag = body instanceof ApiVersioned ? ConditionalGet.versionETag((ApiVersioned) body) : null;
+        return new CachedResponse(buffer.headers.getContentType(), buffer.body.toByteArray(), etag);
+    }
+
+    void write(CachedResponse serialized, ServerHttpResponse response) {
+        try {
+            response.getHeaders().setContentType(serialized.getContentType());
+            response.getHeaders().setContentLength(serialized.getBody().length);
+            StreamUtils.copy(serialized.getBody(), response.getBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 与 message converter 输出完全一致的序列化结果
+     */
+    private static class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+        @Override
+        public ByteArrayOutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+}
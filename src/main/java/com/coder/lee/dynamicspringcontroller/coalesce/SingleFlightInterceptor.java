@@ -0,0 +1,168 @@
+package com.coder.lee.dynamicspringcontroller.coalesce;
+
+import com.coder.lee.dynamicspringcontroller.annotation.SingleFlight;
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Description: {@link SingleFlight} 方法的调用合并：参数相同的调用进行中时，后到的调用不再执行XXXAPIImpl，短路为进行中调用的结果
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:10
+ *
+ * @author coderLee23
+ */
+public class SingleFlightInterceptor implements EndpointInterceptor, Ordered {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SingleFlightInterceptor.class);
+
+    private static final String FLIGHT = SingleFlightInterceptor.class.getName();
+
+    /**
+     * endpoint -> 参数 -> 进行中调用的结果
+     */
+    private final Map<ApiEndpoint, Map<String, CompletableFuture<Object>>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * endpoint -> 同步方法等待方的最长等待时间
+     */
+    private final Map<ApiEndpoint, Long> maxWaitMillis = new ConcurrentHashMap<>();
+
+    private final ControllerTarget target;
+
+    public SingleFlightInterceptor(ControllerTarget target) {
+        this.target = target;
+    }
+
+    @Override
+    public boolean supports(ApiEndpoint endpoint) {
+        if (AnnotationUtils.findAnnotation(endpoint.getMethod(), SingleFlight.class) == null) {
+            return false;
+        }
+        if (Publisher.class.isAssignableFrom(endpoint.getMethod().getReturnType())) {
+            LOGGER.warn("@SingleFlight on {} ignored, methods returning a Publisher are not supported", endpoint);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void bind(ApiEndpoint endpoint) {
+        SingleFlight singleFlight = AnnotationUtils.findAnnotation(endpoint.getMethod(), SingleFlight.class);
+        maxWaitMillis.put(endpoint, singleFlight.maxWaitMillis());
+        flights.put(endpoint, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void unbind(ApiEndpoint endpoint) {
+        // 进行中的调用仍通过 Flight 持有的引用完成
+        flights.remove(endpoint);
+        maxWaitMillis.remove(endpoint);
+    }
+
+    @Override
+    public void before(ApiInvocation invocation) throws Throwable {
+        ApiEndpoint endpoint = invocation.getEndpoint();
+        Map<String, CompletableFuture<Object>> inFlight = flights.get(endpoint);
+        if (inFlight == null) {
+            return;
+        }
+        String key = invocation.getArgumentsKey();
+        CompletableFuture<Object> leader = inFlight.get(key);
+        if (leader == null) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                // 由本次调用执行XXXAPIImpl
+                invocation.setAttribute(FLIGHT, new Flight(inFlight, key, flight));
+                return;
+            }
+        }
+        if (endpoint.isAsync() || (endpoint.isOffloaded() && target == ControllerTarget.SERVLET)) {
+            // controller返回future，复制一份避免调用方完成共享的future
+            invocation.shortCircuit(leader.thenApply(Function.identity()));
+            return;
+        }
+        if (target == ControllerTarget.REACTIVE) {
+            // controller返回Mono，不能阻塞事件循环
+            invocation.shortCircuit(Mono.fromFuture(leader.thenApply(Function.identity())));
+            return;
+        }
+        try {
+            invocation.shortCircuit(leader.get(maxWaitMillis.getOrDefault(endpoint, 0L), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            // 进行中的调用过慢，不再占用请求线程等待，由本次调用自己执行XXXAPIImpl
+            LOGGER.debug("{} waited for in-flight call more than {} ms, call it directly", endpoint, maxWaitMillis.get(endpoint));
+        }
+    }
+
+    @Override
+    public void after(ApiInvocation invocation) {
+        Flight flight = (Flight) invocation.getAttribute(FLIGHT);
+        if (flight != null) {
+            flight.land(invocation.getResult());
+        }
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        Flight flight = (Flight) invocation.getAttribute(FLIGHT);
+        if (flight != null) {
+            flight.fail(error);
+        }
+    }
+
+    /**
+     * 在缓存之后、准入控制之前执行，等待中的调用不占用并发限制
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 7;
+    }
+
+    private static class Flight {
+
+        private final Map<String, CompletableFuture<Object>> inFlight;
+
+        private final String key;
+
+        private final CompletableFuture<Object> future;
+
+        Flight(Map<String, CompletableFuture<Object>> inFlight, String key, CompletableFuture<Object> future) {
+            this.inFlight = inFlight;
+            this.key = key;
+            this.future = future;
+        }
+
+        void land(Object result) {
+            // 先移除再完成，之后到达的调用重新执行
+            inFlight.remove(key, future);
+            future.complete(result);
+        }
+
+        void fail(Throwable error) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.limit.AdaptiveConcurrencyInterceptor;
+import com.coder.lee.dynamicspringcontroller.limit.AdaptiveLimitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: 准入控制配置，api.limit.enabled=true 时才注册(默认关闭)
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 19:10
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "api.limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdaptiveLimitProperties.class)
+public class AdaptiveConcurrencyConfig {
+
+    @Bean
+    public AdaptiveConcurrencyInterceptor adaptiveConcurrencyInterceptor(AdaptiveLimitProperties properties) {
+        return new AdaptiveConcurrencyInterceptor(properties);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.cache.ApiCacheInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: @ApiCacheable 响应缓存配置，api.cache.enabled=false 时不注册；报文输出见 ApiCacheResponseBodyAdvice
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:30
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "api.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ApiCacheConfig {
+
+    @Bean
+    public ApiCacheInterceptor apiCacheInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ApiCacheInterceptor(meterRegistry.getIfAvailable());
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.hot.ApiClassCaches;
+import com.coder.lee.dynamicspringcontroller.registry.hot.ApiHotRegistry;
+import com.coder.lee.dynamicspringcontroller.registry.hot.ApiRegistryEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.hot.ApiRouteTable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import javax.validation.Validator;
+import java.util.List;
+
+/**
+ * Description: API热注册配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 16:30
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ApiHotRegistryConfig {
+
+    @Bean
+    public ApiRouteTable apiRouteTable() {
+        return new ApiRouteTable();
+    }
+
+    @Bean
+    public ApiClassCaches apiClassCaches(ConfigurableListableBeanFactory beanFactory, RequestMappingHandlerAdapter requestMappingHandlerAdapter,
+                                         List<HandlerExceptionResolver> exceptionResolvers, ObjectProvider<FastJsonConfig> fastJsonConfig,
+                                         ObjectProvider<Validator> validator) {
+        return new ApiClassCaches((AbstractBeanFactory) beanFactory, requestMappingHandlerAdapter, exceptionResolvers, fastJsonConfig.getIfAvailable(),
+                validator.getIfUnique());
+    }
+
+    @Bean
+    public ApiHotRegistry apiHotRegistry(ConfigurableListableBeanFactory beanFactory, ApiBeanDefinitionRegistryPostProcessor postProcessor, ApiRouteTable apiRouteTable,
+                                         ApiClassCaches apiClassCaches) {
+        return new ApiHotRegistry(beanFactory, postProcessor, apiRouteTable, apiClassCaches);
+    }
+
+    /**
+     * 可从任意位置加载并执行类，默认关闭；开启时需在 /actuator/apiregistry 前配置访问控制
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "api.hot-registry.endpoint", name = "enabled", havingValue = "true")
+    @ConditionalOnAvailableEndpoint
+    public ApiRegistryEndpoint apiRegistryEndpoint(ApiHotRegistry apiHotRegistry, ApiRouteTable apiRouteTable) {
+        return new ApiRegistryEndpoint(apiHotRegistry, apiRouteTable);
+    }
+
+}
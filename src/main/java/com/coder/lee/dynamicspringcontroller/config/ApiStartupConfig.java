@@ -0,0 +1,26 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiStartupEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: 启动耗时报告配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 02:00
+ *
+ * @author coderLee23
+ */
+@Configuration
+public class ApiStartupConfig {
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public ApiStartupEndpoint apiStartupEndpoint(ApiBeanDefinitionRegistryPostProcessor postProcessor) {
+        return new ApiStartupEndpoint(postProcessor.getStartupReport());
+    }
+
+}
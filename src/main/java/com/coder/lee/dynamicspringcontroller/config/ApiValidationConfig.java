@@ -0,0 +1,31 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiValidationPrebuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.validation.Validator;
+
+/**
+ * Description: generated controller 参数校验配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 00:10
+ *
+ * @author coderLee23
+ */
+@Configuration
+public class ApiValidationConfig {
+
+    /**
+     * validator 为 spring boot 的 defaultValidator，mvc/webflux 的校验委托给它，共用元数据缓存
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "api.validation", name = "prebuild", havingValue = "true", matchIfMissing = true)
+    public ApiValidationPrebuilder apiValidationPrebuilder(ApiBeanDefinitionRegistryPostProcessor postProcessor, Validator validator) {
+        return new ApiValidationPrebuilder(postProcessor, validator);
+    }
+
+}
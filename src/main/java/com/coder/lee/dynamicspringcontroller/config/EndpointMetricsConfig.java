@@ -0,0 +1,46 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.audit.PayloadAuditBuffer;
+import com.coder.lee.dynamicspringcontroller.metrics.EndpointMetricsInterceptor;
+import com.coder.lee.dynamicspringcontroller.metrics.EndpointMetricsProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: generated controller 指标配置，通过 /actuator/metrics/api.endpoint.requests 查看
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 13:40
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "api.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(EndpointMetricsProperties.class)
+public class EndpointMetricsConfig {
+
+    @Bean
+    public EndpointMetricsInterceptor endpointMetricsInterceptor(MeterRegistry meterRegistry, EndpointMetricsProperties properties) {
+        return new EndpointMetricsInterceptor(meterRegistry, properties);
+    }
+
+    @Bean
+    public MeterBinder payloadAuditMetrics(ObjectProvider<PayloadAuditBuffer> payloadAuditBuffer) {
+        return registry -> payloadAuditBuffer.ifAvailable(buffer -> {
+            FunctionCounter.builder("api.audit.dropped", buffer, PayloadAuditBuffer::getDropped)
+                    .description("payload audit records dropped because the buffer was full")
+                    .register(registry);
+            Gauge.builder("api.audit.pending", buffer, PayloadAuditBuffer::getPending)
+                    .description("payload audit records waiting to be written")
+                    .register(registry);
+        });
+    }
+
+}
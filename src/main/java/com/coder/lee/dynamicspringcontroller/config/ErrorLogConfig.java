@@ -0,0 +1,31 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.error.ErrorLogLimiter;
+import com.coder.lee.dynamicspringcontroller.error.ErrorLogProperties;
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: {@link GlobalExceptionTranslator} 的日志限流与异常堆栈配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:40
+ *
+ * @author coderLee23
+ */
+@Configuration
+@EnableConfigurationProperties(ErrorLogProperties.class)
+public class ErrorLogConfig {
+
+    @Bean
+    public ErrorLogLimiter errorLogLimiter(ErrorLogProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        // 异常在任意线程中创建，开关只能是静态的
+        StacklessResponseStatusException.setStackless(properties.isStackless());
+        return new ErrorLogLimiter(properties.getLogInterval(), meterRegistry.getIfAvailable());
+    }
+
+}
@@ -3,9 +3,21 @@ package com.coder.lee.dynamicspringcontroller.config;
 import com.alibaba.fastjson.serializer.SerializerFeature;
 import com.alibaba.fastjson.support.config.FastJsonConfig;
 import com.alibaba.fastjson.support.spring.FastJsonHttpMessageConverter;
+import com.coder.lee.dynamicspringcontroller.json.BinaryFormat;
+import com.coder.lee.dynamicspringcontroller.json.BinaryJacksonHttpMessageConverter;
+import com.coder.lee.dynamicspringcontroller.json.FastJsonPrebuilder;
+import com.coder.lee.dynamicspringcontroller.json.FastJsonProperties;
+import com.coder.lee.dynamicspringcontroller.json.StreamingFastJsonHttpMessageConverter;
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Description: Function Description
@@ -16,15 +28,40 @@ import org.springframework.context.annotation.Configuration;
  * @author coderLee23
  */
 @Configuration
+@EnableConfigurationProperties(FastJsonProperties.class)
 public class FastJsonConverterConfig {
 
+    /**
+     * mvc与webflux编解码共用，默认紧凑输出，api.json.pretty=true 时格式化
+     */
     @Bean
-    public HttpMessageConverters fastJsonHttpMessageConverters() {
-        FastJsonHttpMessageConverter fastConverter = new FastJsonHttpMessageConverter();
+    public FastJsonConfig fastJsonConfig(FastJsonProperties properties) {
         FastJsonConfig fastJsonConfig = new FastJsonConfig();
-        fastJsonConfig.setSerializerFeatures(SerializerFeature.PrettyFormat);
+        if (properties.isPretty()) {
+            fastJsonConfig.setSerializerFeatures(SerializerFeature.PrettyFormat);
+        }
+        return fastJsonConfig;
+    }
+
+    /**
+     * 二进制格式排在fastjson之前，只响应明确的 Accept/Content-Type，未指定时仍为json
+     */
+    @Bean
+    public HttpMessageConverters fastJsonHttpMessageConverters(FastJsonConfig fastJsonConfig) {
+        FastJsonHttpMessageConverter fastConverter = new StreamingFastJsonHttpMessageConverter();
         fastConverter.setFastJsonConfig(fastJsonConfig);
-        return new HttpMessageConverters(fastConverter);
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        for (BinaryFormat format : BinaryFormat.values()) {
+            converters.add(new BinaryJacksonHttpMessageConverter(format));
+        }
+        converters.add(fastConverter);
+        return new HttpMessageConverters(converters);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "api.json", name = "prebuild", havingValue = "true", matchIfMissing = true)
+    public FastJsonPrebuilder fastJsonPrebuilder(ApiBeanDefinitionRegistryPostProcessor postProcessor, FastJsonConfig fastJsonConfig) {
+        return new FastJsonPrebuilder(postProcessor, fastJsonConfig);
     }
 
 }
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import springfox.bean.validators.plugins.Validators;
 import springfox.documentation.builders.PropertySpecificationBuilder;
@@ -33,20 +34,34 @@ public class FastJsonModelPropertyPlugin implements ModelPropertyBuilderPlugin {
 
     public static final String NAME = "name";
 
+    /**
+     * PropertySpecificationBuilder name 设置为 final String 因此需要通过反射赋值，字段只查找一次
+     */
+    private static final Field SPECIFICATION_NAME = findSpecificationNameField();
+
+    private static Field findSpecificationNameField() {
+        Field field = ReflectionUtils.findField(PropertySpecificationBuilder.class, NAME);
+        if (field == null) {
+            LOGGER.error("{}.{} not found, @JSONField names are not applied to OAS 3 specifications", PropertySpecificationBuilder.class.getName(), NAME);
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+
+    /**
+     * getBuilder 已废弃，但 swagger 2 文档的属性名仍来自它，与 OAS 3 的 getSpecificationBuilder 一起设置
+     */
+    @SuppressWarnings("deprecation")
     @Override
     public void apply(ModelPropertyContext context) {
         Optional<JSONField> jsonField = extractAnnotation(context, JSONField.class);
         String jsonFieldFromAnnotation = jsonField.map(JSONField::name).orElse(null);
         if (StringUtils.hasText(jsonFieldFromAnnotation)) {
             context.getBuilder().name(jsonFieldFromAnnotation).description(jsonFieldFromAnnotation);
-            //PropertySpecificationBuilder name 设置为 final String 因此需要通过反射赋值
             PropertySpecificationBuilder specificationBuilder = context.getSpecificationBuilder().description(jsonFieldFromAnnotation);
-            try {
-                Field field = specificationBuilder.getClass().getDeclaredField(NAME);
-                field.setAccessible(true);
-                field.set(specificationBuilder, jsonFieldFromAnnotation);
-            } catch (Exception e) {
-                LOGGER.error("反射处理异常！", e);
+            if (SPECIFICATION_NAME != null) {
+                ReflectionUtils.setField(SPECIFICATION_NAME, specificationBuilder, jsonFieldFromAnnotation);
             }
         }
     }
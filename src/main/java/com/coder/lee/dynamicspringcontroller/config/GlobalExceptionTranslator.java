@@ -1,8 +1,12 @@
 package com.coder.lee.dynamicspringcontroller.config;
 
 import org.hibernate.validator.internal.engine.path.PathImpl;
+import com.coder.lee.dynamicspringcontroller.error.ErrorLogLimiter;
+import com.coder.lee.dynamicspringcontroller.limit.ApiOverloadException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -18,6 +22,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import javax.validation.ConstraintViolation;
@@ -40,6 +49,51 @@ public class GlobalExceptionTranslator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionTranslator.class);
 
+    /**
+     * 未匹配到handler(404)或非servlet请求时的endpoint，避免按请求路径产生无限多的key
+     */
+    private static final String UNMATCHED = "UNMATCHED";
+
+    /**
+     * 固定内容的响应在启动时构建，ResponseEntity 不可变，可在请求间共享
+     */
+    private static final ResponseEntity<Object> FORBIDDEN = staticResponse(HttpStatus.FORBIDDEN);
+
+    private static final ResponseEntity<Object> BAD_REQUEST = staticResponse(HttpStatus.BAD_REQUEST);
+
+    private static final ResponseEntity<Object> NOT_FOUND = staticResponse(HttpStatus.NOT_FOUND);
+
+    private static final ResponseEntity<Object> METHOD_NOT_ALLOWED = staticResponse(HttpStatus.METHOD_NOT_ALLOWED);
+
+    private static final ResponseEntity<Object> UNSUPPORTED_MEDIA_TYPE = staticResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+
+    private static final ResponseEntity<Object> UNPROCESSABLE_ENTITY = staticResponse(HttpStatus.UNPROCESSABLE_ENTITY);
+
+    private static final ResponseEntity<Object> INTERNAL_SERVER_ERROR = staticResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final ErrorLogLimiter errorLogLimiter;
+
+    public GlobalExceptionTranslator(ErrorLogLimiter errorLogLimiter) {
+        this.errorLogLimiter = errorLogLimiter;
+    }
+
+    private static ResponseEntity<Object> staticResponse(HttpStatus status) {
+        return ResponseEntity.status(status).body(status.getReasonPhrase());
+    }
+
+    /**
+     * 客户端错误：限流输出，不输出堆栈
+     */
+    private void warn(String message, HttpStatus status, Throwable e) {
+        errorLogLimiter.log(LOGGER, Level.WARN, status, currentEndpoint(), message, e, false);
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object pattern = attributes == null ? null : attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : UNMATCHED;
+    }
+
     /**
      * 处理权限拦截异常
      *
@@ -49,7 +103,8 @@ public class GlobalExceptionTranslator {
     @ExceptionHandler(value = AccessDeniedException.class)
     @ResponseBody
     public ResponseEntity<Object> handleAccessDeniedException(AccessDeniedException e) {
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(HttpStatus.FORBIDDEN.getReasonPhrase());
+        warn("Access Denied", HttpStatus.FORBIDDEN, e);
+        return FORBIDDEN;
     }
 
     /**
@@ -58,26 +113,27 @@ public class GlobalExceptionTranslator {
     @ExceptionHandler(value = HttpMessageConversionException.class)
     @ResponseBody
     public ResponseEntity<Object> handleParameterTypeMismatch(HttpMessageConversionException e) {
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase());
+        warn("Message Conversion Failed", HttpStatus.UNPROCESSABLE_ENTITY, e);
+        return UNPROCESSABLE_ENTITY;
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity handleError(MissingServletRequestParameterException e) {
-        LOGGER.warn("Missing Request Parameter", e);
+        warn("Missing Request Parameter", HttpStatus.BAD_REQUEST, e);
         String message = String.format("Missing Request Parameter: %s", e.getParameterName());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity handleError(MethodArgumentTypeMismatchException e) {
-        LOGGER.warn("Method Argument Type Mismatch", e);
+        warn("Method Argument Type Mismatch", HttpStatus.BAD_REQUEST, e);
         String message = String.format("Method Argument Type Mismatch: %s", e.getName());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity handleError(MethodArgumentNotValidException e) {
-        LOGGER.warn("Method Argument Not Valid", e);
+        warn("Method Argument Not Valid", HttpStatus.BAD_REQUEST, e);
         BindingResult result = e.getBindingResult();
         FieldError error = result.getFieldError();
         String message = String.format("%s:%s", error.getField(), error.getDefaultMessage());
@@ -86,7 +142,15 @@ public class GlobalExceptionTranslator {
 
     @ExceptionHandler(BindException.class)
     public ResponseEntity handleError(BindException e) {
-        LOGGER.warn("Bind Exception", e);
+        warn("Bind Exception", HttpStatus.BAD_REQUEST, e);
+        FieldError error = e.getFieldError();
+        String message = String.format("%s:%s", error.getField(), error.getDefaultMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity handleError(WebExchangeBindException e) {
+        warn("WebExchange Bind Exception", HttpStatus.BAD_REQUEST, e);
         FieldError error = e.getFieldError();
         String message = String.format("%s:%s", error.getField(), error.getDefaultMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
@@ -94,7 +158,7 @@ public class GlobalExceptionTranslator {
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity handleError(ConstraintViolationException e) {
-        LOGGER.warn("Constraint Violation", e);
+        warn("Constraint Violation", HttpStatus.BAD_REQUEST, e);
         Set<ConstraintViolation<?>> violations = e.getConstraintViolations();
         ConstraintViolation<?> violation = violations.iterator().next();
         String path = ((PathImpl) violation.getPropertyPath()).getLeafNode().getName();
@@ -104,33 +168,52 @@ public class GlobalExceptionTranslator {
 
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity handleError(NoHandlerFoundException e) {
-        LOGGER.error("404 Not Found", e);
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(HttpStatus.NOT_FOUND.getReasonPhrase());
+        warn("404 Not Found", HttpStatus.NOT_FOUND, e);
+        return NOT_FOUND;
     }
 
+    /**
+     * 解析细节只记录在日志中，不回显给客户端
+     */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity handleError(HttpMessageNotReadableException e) {
-        LOGGER.error("Message Not Readable", e);
-        String message = String.format("%s:\n%s", HttpStatus.BAD_REQUEST.getReasonPhrase(), e.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+        warn("Message Not Readable", HttpStatus.BAD_REQUEST, e);
+        return BAD_REQUEST;
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity handleError(HttpRequestMethodNotSupportedException e) {
-        LOGGER.error("Request Method Not Supported", e);
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(HttpStatus.METHOD_NOT_ALLOWED.getReasonPhrase());
+        warn("Request Method Not Supported", HttpStatus.METHOD_NOT_ALLOWED, e);
+        return METHOD_NOT_ALLOWED;
     }
 
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity handleError(HttpMediaTypeNotSupportedException e) {
-        LOGGER.error("Media Type Not Supported", e);
-        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(HttpStatus.UNSUPPORTED_MEDIA_TYPE.getReasonPhrase());
+        warn("Media Type Not Supported", HttpStatus.UNSUPPORTED_MEDIA_TYPE, e);
+        return UNSUPPORTED_MEDIA_TYPE;
+    }
+
+    @ExceptionHandler(ApiOverloadException.class)
+    public ResponseEntity handleError(ApiOverloadException e) {
+        errorLogLimiter.log(LOGGER, Level.DEBUG, HttpStatus.SERVICE_UNAVAILABLE, currentEndpoint(), "Service Unavailable", e, false);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().getSeconds())))
+                .body(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity handleError(ResponseStatusException e) {
+        warn("Response Status Exception", e.getStatus(), e);
+        return ResponseEntity.status(e.getStatus()).body(e.getReason() != null ? e.getReason() : e.getStatus().getReasonPhrase());
+    }
+
+    /**
+     * 未预期的异常：堆栈在每个异常类型+endpoint首次出现时输出
+     */
     @ExceptionHandler(Throwable.class)
     public ResponseEntity handleError(Throwable e) {
-        LOGGER.error("Internal Server Error", e);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+        errorLogLimiter.log(LOGGER, Level.ERROR, HttpStatus.INTERNAL_SERVER_ERROR, currentEndpoint(), "Internal Server Error", e, true);
+        return INTERNAL_SERVER_ERROR;
     }
 
 }
@@ -0,0 +1,115 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+
+import javax.servlet.Filter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: 文档延迟构建：springfox.documentation.auto-startup=false 时启动阶段不扫描controller，首次访问文档时才构建
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 00:40
+ *
+ * 构建后的文档模型由springfox的 DocumentationCache 缓存，之后的文档请求不再扫描；首次访问前热注册的controller也包含在文档中。
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "springfox.documentation", name = "auto-startup", havingValue = "false")
+public class LazyApiDocsConfig {
+
+    /**
+     * knife4j(doc.html) 先请求 /swagger-resources 获取分组，再请求 api-docs
+     */
+    private static final String[] DOCS_PATHS = {"/v2/api-docs", "/v3/api-docs", "/swagger-resources"};
+
+    @Bean
+    public LazyDocumentation lazyDocumentation(ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper) {
+        return new LazyDocumentation(bootstrapper);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<Filter> lazyApiDocsFilter(LazyDocumentation lazyDocumentation) {
+        Filter filter = (request, response, chain) -> {
+            lazyDocumentation.start();
+            chain.doFilter(request, response);
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+        for (String path : DOCS_PATHS) {
+            registration.addUrlPatterns(path, path + "/*");
+        }
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public WebFilter lazyApiDocsWebFilter(LazyDocumentation lazyDocumentation) {
+        return (exchange, chain) -> {
+            String path = exchange.getRequest().getPath().pathWithinApplication().value();
+            if (lazyDocumentation.isStarted() || !isDocsPath(path)) {
+                return chain.filter(exchange);
+            }
+            // 构建文档会阻塞，不在netty事件循环线程中执行
+            return Mono.fromRunnable(lazyDocumentation::start).subscribeOn(Schedulers.boundedElastic()).then(chain.filter(exchange));
+        };
+    }
+
+    private static boolean isDocsPath(String path) {
+        for (String docsPath : DOCS_PATHS) {
+            if (path.startsWith(docsPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 只构建一次，并发的首批文档请求等待构建完成
+     */
+    public static class LazyDocumentation {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(LazyDocumentation.class);
+
+        private final ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper;
+
+        private volatile boolean started;
+
+        LazyDocumentation(ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper) {
+            this.bootstrapper = bootstrapper;
+        }
+
+        public boolean isStarted() {
+            return started;
+        }
+
+        public void start() {
+            if (started) {
+                return;
+            }
+            synchronized (this) {
+                if (started) {
+                    return;
+                }
+                long start = System.nanoTime();
+                bootstrapper.ifAvailable(DocumentationPluginsBootstrapper::start);
+                started = true;
+                LOGGER.info("api documentation built on first request in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+
+    }
+
+}
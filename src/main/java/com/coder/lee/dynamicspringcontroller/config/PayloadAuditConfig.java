@@ -0,0 +1,34 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.audit.PayloadAuditBuffer;
+import com.coder.lee.dynamicspringcontroller.audit.PayloadAuditInterceptor;
+import com.coder.lee.dynamicspringcontroller.audit.PayloadAuditProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: 报文审计配置，api.audit.enabled=true 时注册审计拦截器
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 11:20
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "api.audit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PayloadAuditProperties.class)
+public class PayloadAuditConfig {
+
+    @Bean
+    public PayloadAuditBuffer payloadAuditBuffer(PayloadAuditProperties properties) {
+        return new PayloadAuditBuffer(properties.getBufferSize());
+    }
+
+    @Bean
+    public PayloadAuditInterceptor payloadAuditInterceptor(PayloadAuditProperties properties, PayloadAuditBuffer payloadAuditBuffer) {
+        return new PayloadAuditInterceptor(properties, payloadAuditBuffer);
+    }
+
+}
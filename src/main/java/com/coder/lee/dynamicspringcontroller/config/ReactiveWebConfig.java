@@ -0,0 +1,156 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.coder.lee.dynamicspringcontroller.json.BinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Description: webflux运行方式配置：使用netty，并使用与 {@link FastJsonConverterConfig} 一致的fastjson编解码，保证两种运行方式报文格式相同
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:10
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private static final MimeType[] JSON_MIME_TYPES = {MediaType.APPLICATION_JSON, new MediaType("application", "*+json")};
+
+    /**
+     * 同时存在tomcat时spring boot默认优先使用tomcat
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    private final FastJsonConfig fastJsonConfig;
+
+    public ReactiveWebConfig(FastJsonConfig fastJsonConfig) {
+        this.fastJsonConfig = fastJsonConfig;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().registerWithDefaultConfig(new FastJsonDecoder());
+        configurer.customCodecs().registerWithDefaultConfig(new FastJsonEncoder(fastJsonConfig));
+        // 二进制格式与mvc一致：识别 @JSONField，排在fastjson之后，只在明确要求时输出
+        ObjectMapper cborMapper = BinaryFormat.CBOR.objectMapper();
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper, BinaryFormat.CBOR.getMediaType()));
+        configurer.customCodecs().registerWithDefaultConfig(new BinaryJacksonEncoder(cborMapper, BinaryFormat.CBOR.getMediaType()));
+        ObjectMapper smileMapper = BinaryFormat.SMILE.objectMapper();
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2SmileDecoder(smileMapper, BinaryFormat.SMILE.getMediaType()));
+        configurer.customCodecs().registerWithDefaultConfig(new BinaryJacksonEncoder(smileMapper, BinaryFormat.SMILE.getMediaType()));
+    }
+
+    private static class FastJsonDecoder extends AbstractDataBufferDecoder<Object> {
+
+        FastJsonDecoder() {
+            super(JSON_MIME_TYPES);
+        }
+
+        @Override
+        public Object decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                return JSON.parseObject(bytes, targetType.getType());
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+    }
+
+    /**
+     * 与 BinaryJacksonHttpMessageConverter 一致：只响应明确的 Accept，字符串也按该格式编码
+     */
+    private static class BinaryJacksonEncoder extends AbstractJackson2Encoder {
+
+        BinaryJacksonEncoder(ObjectMapper mapper, MimeType mimeType) {
+            super(mapper, mimeType);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            if (mimeType == null || mimeType.isWildcardType() || mimeType.isWildcardSubtype()) {
+                return false;
+            }
+            if (CharSequence.class.isAssignableFrom(elementType.toClass())) {
+                return supportsMimeType(mimeType);
+            }
+            return super.canEncode(elementType, mimeType);
+        }
+
+    }
+
+    private static class FastJsonEncoder extends AbstractEncoder<Object> {
+
+        private final FastJsonConfig config;
+
+        FastJsonEncoder(FastJsonConfig config) {
+            super(JSON_MIME_TYPES);
+            this.config = config;
+        }
+
+        /**
+         * 字符串与mvc下的 StringHttpMessageConverter 一样原样输出
+         */
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            return !CharSequence.class.isAssignableFrom(elementType.toClass()) && super.canEncode(elementType, mimeType);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono) {
+                return Mono.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            // Flux 整体作为JSON数组输出
+            return Flux.from(inputStream).collectList().map(values -> encodeValue(values, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+
+        @Override
+        public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+            // 直接编码到(netty池化的)DataBuffer中，不产生中间byte[]
+            DataBuffer buffer = bufferFactory.allocateBuffer();
+            try {
+                JSON.writeJSONStringWithFastJsonConfig(buffer.asOutputStream(), config.getCharset(), value, config.getSerializeConfig(),
+                        config.getSerializeFilters(), config.getDateFormat(), JSON.DEFAULT_GENERATE_FEATURE, config.getSerializerFeatures());
+                return buffer;
+            } catch (IOException | RuntimeException e) {
+                DataBufferUtils.release(buffer);
+                throw new EncodingException("Could not write JSON: " + e.getMessage(), e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.coder.lee.dynamicspringcontroller.config;
+
+import com.coder.lee.dynamicspringcontroller.coalesce.SingleFlightInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Description: @SingleFlight 调用合并配置，api.single-flight.enabled=false 时不注册
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 21:10
+ *
+ * @author coderLee23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "api.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlightInterceptor singleFlightInterceptor(ApplicationContext applicationContext) {
+        return new SingleFlightInterceptor(ControllerTarget.of(applicationContext));
+    }
+
+}
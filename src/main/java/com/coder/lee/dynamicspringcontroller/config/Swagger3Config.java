@@ -10,6 +10,8 @@ import springfox.documentation.builders.RequestHandlerSelectors;
 import springfox.documentation.service.ApiInfo;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
+
+import java.util.concurrent.CompletableFuture;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 /**
@@ -29,6 +31,8 @@ public class Swagger3Config {
     public Docket createRestApi() {
         return new Docket(DocumentationType.OAS_30)
                 .apiInfo(apiInfo())
+                // 异步返回的方法文档中展示实际返回值
+                .genericModelSubstitutes(CompletableFuture.class)
                 .select()
                 .apis(RequestHandlerSelectors.withClassAnnotation(Api.class))
                 .paths(PathSelectors.any())
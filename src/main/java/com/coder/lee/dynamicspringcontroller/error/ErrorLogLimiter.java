@@ -0,0 +1,139 @@
+package com.coder.lee.dynamicspringcontroller.error;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Description: 异常日志限流与去重：按异常类型+endpoint计数，每个间隔最多输出一条日志，堆栈只在首次输出
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:40
+ *
+ * 计数通过 /actuator/metrics/api.errors?tag=exception:XXX 查看。
+ *
+ * @author coderLee23
+ */
+public class ErrorLogLimiter {
+
+    private final long intervalNanos;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry 可为null，此时不发布计数
+     */
+    public ErrorLogLimiter(Duration interval, MeterRegistry meterRegistry) {
+        this.intervalNanos = interval.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param endpoint   请求匹配的路径模式，未匹配时为固定值，避免key及指标tag随请求路径增长
+     * @param stackTrace 是否需要堆栈，需要时也只在该key首次输出
+     */
+    public void log(Logger logger, Level level, HttpStatus status, String endpoint, String message, Throwable e, boolean stackTrace) {
+        String exception = e.getClass().getSimpleName();
+        Window window = windows.computeIfAbsent(exception + ' ' + endpoint, key -> new Window(exception, endpoint, status));
+        window.count();
+        if (!isEnabled(logger, level)) {
+            return;
+        }
+        long suppressed = window.tryAcquire(intervalNanos);
+        if (suppressed < 0) {
+            return;
+        }
+        if (stackTrace && window.firstLog) {
+            window.firstLog = false;
+            write(logger, level, "{} [{} {}]", message, status.value(), endpoint, e);
+        } else if (suppressed > 0) {
+            write(logger, level, "{} [{} {}]: {} ({} similar suppressed)", message, status.value(), endpoint, e.getMessage(), suppressed);
+        } else {
+            write(logger, level, "{} [{} {}]: {}", message, status.value(), endpoint, e.getMessage());
+        }
+    }
+
+    private static boolean isEnabled(Logger logger, Level level) {
+        switch (level) {
+            case ERROR:
+                return logger.isErrorEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            default:
+                return logger.isTraceEnabled();
+        }
+    }
+
+    private static void write(Logger logger, Level level, String format, Object... arguments) {
+        switch (level) {
+            case ERROR:
+                logger.error(format, arguments);
+                break;
+            case WARN:
+                logger.warn(format, arguments);
+                break;
+            case INFO:
+                logger.info(format, arguments);
+                break;
+            case DEBUG:
+                logger.debug(format, arguments);
+                break;
+            default:
+                logger.trace(format, arguments);
+        }
+    }
+
+    private final class Window {
+
+        private final Counter counter;
+
+        private final AtomicLong nextLogTime = new AtomicLong(System.nanoTime());
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private volatile boolean firstLog = true;
+
+        Window(String exception, String endpoint, HttpStatus status) {
+            this.counter = meterRegistry == null ? null : Counter.builder("api.errors")
+                    .description("requests completed by the global exception translator")
+                    .tag("exception", exception)
+                    .tag("endpoint", endpoint)
+                    .tag("status", String.valueOf(status.value()))
+                    .register(meterRegistry);
+        }
+
+        void count() {
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+
+        /**
+         * @return 可以输出时返回上一条日志之后被抑制的条数，否则返回-1
+         */
+        long tryAcquire(long intervalNanos) {
+            long now = System.nanoTime();
+            long next = nextLogTime.get();
+            if (now - next < 0 || !nextLogTime.compareAndSet(next, now + intervalNanos)) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            return suppressed.getAndSet(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.coder.lee.dynamicspringcontroller.error;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Description: 异常处理日志配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:40
+ *
+ * @author coderLee23
+ */
+@Data
+@ConfigurationProperties(prefix = "api.error")
+public class ErrorLogProperties {
+
+    /**
+     * 同一异常类型、同一endpoint在此间隔内只输出一条日志，其余计数后在下一条日志中汇总
+     */
+    private Duration logInterval = Duration.ofSeconds(10);
+
+    /**
+     * 客户端异常(忙碌、超限等)不采集堆栈
+     */
+    private boolean stackless = true;
+
+}
@@ -0,0 +1,35 @@
+package com.coder.lee.dynamicspringcontroller.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Description: 由客户端或负载引起、按状态码处理即可的异常，api.error.stackless=true(默认)时不采集堆栈
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:40
+ *
+ * @author coderLee23
+ */
+public class StacklessResponseStatusException extends ResponseStatusException {
+
+    private static volatile boolean stackless = true;
+
+    public StacklessResponseStatusException(HttpStatus status, String reason) {
+        super(status, reason);
+    }
+
+    public StacklessResponseStatusException(HttpStatus status, String reason, Throwable cause) {
+        super(status, reason, cause);
+    }
+
+    public static void setStackless(boolean stackless) {
+        StacklessResponseStatusException.stackless = stackless;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return stackless ? this : super.fillInStackTrace();
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.coder.lee.dynamicspringcontroller.interceptor;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.coder.lee.dynamicspringcontroller.registry.ApiArguments;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Description: 一次generated controller方法调用的上下文，负责按顺序执行拦截链
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 10:05
+ *
+ * @author coderLee23
+ */
+public class ApiInvocation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiInvocation.class);
+
+    private final ApiEndpoint endpoint;
+
+    private final EndpointInterceptor[] interceptors;
+
+    private final Object[] arguments;
+
+    private final long startNanos;
+
+    /**
+     * 已成功执行before的拦截器个数
+     */
+    private int entered;
+
+    private Object result;
+
+    /**
+     * 是否已由拦截器在before中给出返回值
+     */
+    private boolean shortCircuited;
+
+    private String argumentsKey;
+
+    /**
+     * 拦截器在before与after/error之间传递的状态
+     */
+    private Map<String, Object> attributes;
+
+    private ApiInvocation(ApiEndpoint endpoint, EndpointInterceptor[] interceptors, Object[] arguments) {
+        this.endpoint = endpoint;
+        this.interceptors = interceptors;
+        this.arguments = arguments;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 开始一次调用，依次执行拦截器的before
+     *
+     * @return 本次调用；拦截链为空(如刚被热替换解绑)时为 null，不创建调用上下文
+     */
+    public static ApiInvocation before(ApiEndpoint endpoint, Object[] arguments) throws Throwable {
+        EndpointInterceptor[] chain = endpoint.getInterceptors();
+        if (chain.length == 0) {
+            return null;
+        }
+        ApiInvocation invocation = new ApiInvocation(endpoint, chain, arguments);
+        try {
+            for (EndpointInterceptor interceptor : chain) {
+                interceptor.before(invocation);
+                invocation.entered++;
+                if (invocation.shortCircuited) {
+                    // 后续拦截器的before及XXXAPIImpl均不再执行
+                    break;
+                }
+            }
+        } catch (Throwable e) {
+            invocation.afterThrowing(e);
+            throw e;
+        }
+        return invocation;
+    }
+
+    /**
+     * 调用正常返回，倒序执行拦截器的after；返回 CompletionStage、Mono、Flux 时在其完成后执行
+     *
+     * @return controller方法的返回值，Mono、Flux 替换为挂载了拦截链回调的实例
+     */
+    public Object afterReturning(Object returned) {
+        if (returned instanceof Mono) {
+            return ((Mono<?>) returned)
+                    .doOnSuccess(this::complete)
+                    .doOnError(this::afterThrowing)
+                    .doOnCancel(() -> afterThrowing(new CancellationException()));
+        }
+        if (returned instanceof Flux) {
+            return ((Flux<?>) returned)
+                    .doOnComplete(() -> complete(null))
+                    .doOnError(this::afterThrowing)
+                    .doOnCancel(() -> afterThrowing(new CancellationException()));
+        }
+        if (returned instanceof CompletionStage) {
+            ((CompletionStage<?>) returned).whenComplete((value, error) -> {
+                if (error == null) {
+                    complete(value);
+                } else {
+                    afterThrowing(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+            return returned;
+        }
+        complete(returned);
+        return returned;
+    }
+
+    /**
+     * 在拦截器的before中调用，跳过后续拦截器及XXXAPIImpl的调用，直接以result作为controller方法的返回值；
+     * 已执行过before的拦截器仍会收到after回调
+     *
+     * @param result 返回值，需与controller方法的返回类型兼容
+     */
+    public void shortCircuit(Object result) {
+        this.result = result;
+        this.shortCircuited = true;
+    }
+
+    public boolean isShortCircuited() {
+        return shortCircuited;
+    }
+
+    private void complete(Object returned) {
+        this.result = returned;
+        for (int i = entered - 1; i >= 0; i--) {
+            try {
+                interceptors[i].after(this);
+            } catch (RuntimeException e) {
+                LOGGER.error("endpoint interceptor {} after error", interceptors[i], e);
+            }
+        }
+    }
+
+    /**
+     * 调用异常，倒序执行拦截器的error
+     */
+    public void afterThrowing(Throwable error) {
+        for (int i = entered - 1; i >= 0; i--) {
+            try {
+                interceptors[i].error(this, error);
+            } catch (RuntimeException e) {
+                LOGGER.error("endpoint interceptor {} error callback error", interceptors[i], e);
+            }
+        }
+    }
+
+    public ApiEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * 参数的规范编码：多参数方法先拆包参数容器，对象字段与Map按key排序，与请求报文中的字段顺序、空白无关；
+     * 同一次调用只编码一次，供缓存、合并调用等按参数区分调用的拦截器共用
+     */
+    public String getArgumentsKey() {
+        if (argumentsKey == null) {
+            Object[] values = arguments.length == 1 && arguments[0] instanceof ApiArguments ? ((ApiArguments) arguments[0]).toArray() : arguments;
+            argumentsKey = JSON.toJSONString(values, SerializerFeature.SortField, SerializerFeature.MapSortField);
+        }
+        return argumentsKey;
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>(4);
+        }
+        attributes.put(name, value);
+    }
+
+    public Object getAttribute(String name) {
+        return attributes != null ? attributes.get(name) : null;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+}
@@ -1,13 +1,17 @@
 package com.coder.lee.dynamicspringcontroller.interceptor;
 
-
-import com.alibaba.fastjson.JSON;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.coder.lee.dynamicspringcontroller.registry.ApiArguments;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Description: ControllerInterceptor
@@ -15,13 +19,18 @@ import java.lang.reflect.Method;
  * Company: Ruijie Co., Ltd.
  * Create Time: 2021/4/20 1:33
  *
+ * 横切逻辑请实现 {@link EndpointInterceptor} 并注册为spring bean
+ *
  * @author coderLee23
  */
 public class ControllerInterceptor implements InvocationHandler {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ControllerInterceptor.class);
+    private final Object delegate;
 
-    private Object delegate;
+    /**
+     * controller方法 -> XXXAPIImpl方法，只查找一次
+     */
+    private final Map<Method, Method> realMethods = new ConcurrentHashMap<>();
 
     public ControllerInterceptor(Object delegate) {
         this.delegate = delegate;
@@ -34,14 +43,51 @@ public class ControllerInterceptor implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        LOGGER.info("bytebuddy delegate proxy before");
-        LOGGER.info("delegate ===>{}", delegate);
-        LOGGER.info("method ===>{}", method.getName());
-        LOGGER.info("args ===>{}", JSON.toJSONString(args));
-        Method realMethod = ReflectionUtils.findMethod(delegate.getClass(), method.getName(), method.getParameterTypes());
-        LOGGER.info("realMethod==>{}", realMethod);
-        Object ret = ReflectionUtils.invokeMethod(realMethod, delegate, args);
-        LOGGER.info("bytebuddy delegate proxy end");
-        return ret;
+        Method realMethod = realMethods.computeIfAbsent(method, this::findRealMethod);
+        if (args != null && args.length == 1 && args[0] instanceof ApiArguments) {
+            // 多参数方法，拆包参数容器
+            args = ((ApiArguments) args[0]).toArray();
+        }
+        return ReflectionUtils.invokeMethod(realMethod, delegate, args);
+    }
+
+    public Object getDelegate() {
+        return delegate;
+    }
+
+    private Method findRealMethod(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !ApiArguments.class.isAssignableFrom(parameterTypes[0])) {
+            return ReflectionUtils.findMethod(delegate.getClass(), method.getName(), parameterTypes);
+        }
+        // 参数容器的字段与API接口方法的参数同名同类型
+        Class<?> arguments = parameterTypes[0];
+        for (Class<?> apiInterface : ClassUtils.getAllInterfacesForClassAsSet(delegate.getClass())) {
+            for (Method apiMethod : apiInterface.getMethods()) {
+                if (apiMethod.getName().equals(method.getName()) && matches(apiMethod.getParameters(), arguments)) {
+                    return ReflectionUtils.findMethod(delegate.getClass(), apiMethod.getName(), apiMethod.getParameterTypes());
+                }
+            }
+        }
+        throw new IllegalStateException("no method of " + delegate.getClass().getName() + " matches " + arguments.getName());
+    }
+
+    /**
+     * 参数容器的字段与方法参数一一对应；@IdempotentGet 的单参数方法同样使用参数容器
+     */
+    private boolean matches(Parameter[] parameters, Class<?> arguments) {
+        long fields = Arrays.stream(arguments.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .count();
+        if (parameters.length == 0 || parameters.length != fields) {
+            return false;
+        }
+        for (Parameter parameter : parameters) {
+            Field field = ReflectionUtils.findField(arguments, parameter.getName(), parameter.getType());
+            if (field == null) {
+                return false;
+            }
+        }
+        return true;
     }
 }
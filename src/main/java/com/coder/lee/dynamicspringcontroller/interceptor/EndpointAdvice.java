@@ -0,0 +1,56 @@
+package com.coder.lee.dynamicspringcontroller.interceptor;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+/**
+ * Description: 织入generated controller方法的拦截链advice，代码由ByteBuddy内联到controller方法中
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 10:05
+ *
+ * @author coderLee23
+ */
+public class EndpointAdvice {
+
+    private static final String INVOCATION = "invocation";
+
+    private EndpointAdvice() {
+    }
+
+    /**
+     * args 由ByteBuddy在读取处内联为创建数组的字节码，空链时返回在读取之前，不创建参数数组及 ApiInvocation
+     *
+     * @return 拦截器是否已给出返回值，为 true 时跳过方法体
+     */
+    @Advice.OnMethodEnter(skipOn = Advice.OnNonDefaultValue.class)
+    public static boolean enter(@Advice.FieldValue(ApiEndpoint.ENDPOINTS_FIELD) ApiEndpoint[] endpoints,
+                             @EndpointIndex int index,
+                             @Advice.AllArguments Object[] args,
+                             @Advice.Local(INVOCATION) ApiInvocation invocation) throws Throwable {
+        ApiEndpoint endpoint = endpoints[index];
+        if (endpoint.getInterceptors().length == 0) {
+            return false;
+        }
+        invocation = ApiInvocation.before(endpoint, args);
+        return invocation != null && invocation.isShortCircuited();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    public static void exit(@Advice.Local(INVOCATION) ApiInvocation invocation,
+                            @Advice.Return(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object returned,
+                            @Advice.Thrown Throwable thrown,
+                            @Advice.Enter boolean skipped) {
+        if (invocation == null) {
+            // 没有适用的拦截器
+            return;
+        }
+        if (thrown == null) {
+            returned = invocation.afterReturning(skipped ? invocation.getResult() : returned);
+        } else {
+            invocation.afterThrowing(thrown);
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.coder.lee.dynamicspringcontroller.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: EndpointAdvice 参数绑定，生成controller时绑定为当前方法在 apiEndpoints 中的下标常量
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 10:05
+ *
+ * @author coderLee23
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface EndpointIndex {
+}
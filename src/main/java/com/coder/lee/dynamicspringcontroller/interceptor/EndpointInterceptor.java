@@ -0,0 +1,71 @@
+package com.coder.lee.dynamicspringcontroller.interceptor;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+
+/**
+ * Description: 生成的controller方法的拦截器SPI，注册为spring bean即可生效，按 @Order / Ordered 排序
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 10:05
+ *
+ * 拦截链在生成controller时织入字节码；未注册任何拦截器时不织入，调用路径与手写controller一致。
+ * 已织入但没有适用拦截器的endpoint，advice只判断一次空链即返回，不创建 ApiInvocation 及参数数组。
+ *
+ * @author coderLee23
+ */
+public interface EndpointInterceptor {
+
+    /**
+     * 拦截链绑定到endpoint时判断一次，返回 false 的拦截器不进入该endpoint的拦截链，调用时不再回调；
+     * 所有拦截器都不适用的endpoint调用路径上没有任何额外开销
+     *
+     * @param endpoint 绑定的endpoint
+     * @return 是否拦截该endpoint
+     */
+    default boolean supports(ApiEndpoint endpoint) {
+        return true;
+    }
+
+    /**
+     * {@link #supports(ApiEndpoint)} 为 true 的拦截器绑定到endpoint时回调一次，可在此预先创建该endpoint所需的资源
+     *
+     * @param endpoint 绑定的endpoint
+     */
+    default void bind(ApiEndpoint endpoint) {
+    }
+
+    /**
+     * endpoint被热替换或移除时回调，释放 {@link #bind(ApiEndpoint)} 中创建的资源
+     *
+     * @param endpoint 解绑的endpoint
+     */
+    default void unbind(ApiEndpoint endpoint) {
+    }
+
+    /**
+     * 调用XXXAPIImpl之前执行，抛出异常则中断调用，已执行过before的拦截器会收到error回调；
+     * 调用 {@link ApiInvocation#shortCircuit(Object)} 则直接返回，不再调用XXXAPIImpl
+     *
+     * @param invocation 本次调用
+     */
+    default void before(ApiInvocation invocation) throws Throwable {
+    }
+
+    /**
+     * 调用正常返回后执行，按注册顺序倒序回调
+     *
+     * @param invocation 本次调用，可通过 getResult 获取返回值
+     */
+    default void after(ApiInvocation invocation) {
+    }
+
+    /**
+     * 调用异常后执行，按注册顺序倒序回调
+     *
+     * @param invocation 本次调用
+     * @param error      异常
+     */
+    default void error(ApiInvocation invocation, Throwable error) {
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Description: generated controller 除json外可协商的二进制报文格式，客户端通过 Accept/Content-Type 选择，json仍为默认格式
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:10
+ *
+ * @author coderLee23
+ */
+public enum BinaryFormat {
+
+    /**
+     * RFC 8949 CBOR
+     */
+    CBOR(MediaType.APPLICATION_CBOR) {
+        @Override
+        Jackson2ObjectMapperBuilder builder() {
+            return Jackson2ObjectMapperBuilder.cbor();
+        }
+    },
+
+    /**
+     * jackson Smile，重复的字段名以引用编码，适合对象数组
+     */
+    SMILE(new MediaType("application", "x-jackson-smile")) {
+        @Override
+        Jackson2ObjectMapperBuilder builder() {
+            return Jackson2ObjectMapperBuilder.smile();
+        }
+    };
+
+    private final MediaType mediaType;
+
+    BinaryFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    abstract Jackson2ObjectMapperBuilder builder();
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return 识别 @JSONField 的 ObjectMapper
+     */
+    public ObjectMapper objectMapper() {
+        return builder().annotationIntrospector(new FastJsonAnnotationIntrospector()).build();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+/**
+ * Description: {@link BinaryFormat} 报文的 message converter，只在客户端明确要求该格式时输出
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:10
+ *
+ * 排在 FastJsonHttpMessageConverter 之前，Accept 为 *&#47;* 或未指定时不参与协商，响应仍为json。
+ * 不继承 MappingJackson2CborHttpMessageConverter，避免被 HttpMessageConverters 当作默认converter的替换项排到后面。
+ *
+ * @author coderLee23
+ */
+public class BinaryJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public BinaryJacksonHttpMessageConverter(BinaryFormat format) {
+        super(format.objectMapper(), format.getMediaType());
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return mediaType != null && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype() && super.canWrite(mediaType);
+    }
+
+}
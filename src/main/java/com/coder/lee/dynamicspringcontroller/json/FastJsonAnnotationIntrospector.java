@@ -0,0 +1,48 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import com.alibaba.fastjson.annotation.JSONField;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import org.springframework.util.StringUtils;
+
+/**
+ * Description: 让jackson识别DTO上的 {@link JSONField}，二进制报文的字段名与json报文一致
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 23:10
+ *
+ * @author coderLee23
+ */
+public class FastJsonAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public PropertyName findNameForSerialization(Annotated a) {
+        PropertyName name = findJsonFieldName(a);
+        return name != null ? name : super.findNameForSerialization(a);
+    }
+
+    @Override
+    public PropertyName findNameForDeserialization(Annotated a) {
+        PropertyName name = findJsonFieldName(a);
+        return name != null ? name : super.findNameForDeserialization(a);
+    }
+
+    @Override
+    public boolean hasIgnoreMarker(AnnotatedMember m) {
+        JSONField jsonField = _findAnnotation(m, JSONField.class);
+        if (jsonField != null && !jsonField.serialize() && !jsonField.deserialize()) {
+            return true;
+        }
+        return super.hasIgnoreMarker(m);
+    }
+
+    private PropertyName findJsonFieldName(Annotated a) {
+        JSONField jsonField = _findAnnotation(a, JSONField.class);
+        return jsonField != null && StringUtils.hasText(jsonField.name()) ? PropertyName.construct(jsonField.name()) : null;
+    }
+
+}
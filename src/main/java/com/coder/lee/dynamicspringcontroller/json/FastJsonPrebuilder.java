@@ -0,0 +1,82 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: 启动时为generated controller的返回类型构建序列化器、为参数类型构建反序列化器，避免首个请求时才生成ASM类
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 22:30
+ *
+ * 泛型参数(List&lt;Word&gt;、CompletableFuture&lt;Word&gt;)及对象字段的类型一并构建；JDK及fastjson自身类型已内置，跳过。
+ *
+ * @author coderLee23
+ */
+public class FastJsonPrebuilder implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FastJsonPrebuilder.class);
+
+    private final ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    private final FastJsonConfig fastJsonConfig;
+
+    public FastJsonPrebuilder(ApiBeanDefinitionRegistryPostProcessor postProcessor, FastJsonConfig fastJsonConfig) {
+        this.postProcessor = postProcessor;
+        this.fastJsonConfig = fastJsonConfig;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        Set<Class<?>> returnTypes = new LinkedHashSet<>();
+        Set<Class<?>> parameterTypes = new LinkedHashSet<>();
+        for (Class<?> controllerClazz : postProcessor.getControllerClasses()) {
+            for (Method method : ApiControllerGenerator.getControllerMethods(controllerClazz).values()) {
+                collect(ResolvableType.forMethodReturnType(method), returnTypes);
+                for (int i = 0; i < method.getParameterCount(); i++) {
+                    collect(ResolvableType.forMethodParameter(method, i), parameterTypes);
+                }
+            }
+        }
+        returnTypes.forEach(fastJsonConfig.getSerializeConfig()::getObjectWriter);
+        parameterTypes.forEach(fastJsonConfig.getParserConfig()::getDeserializer);
+        LOGGER.info("prebuilt {} fastjson serializers and {} deserializers in {} ms", returnTypes.size(), parameterTypes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void collect(ResolvableType type, Set<Class<?>> classes) {
+        for (ResolvableType generic : type.getGenerics()) {
+            collect(generic, classes);
+        }
+        if (type.isArray()) {
+            collect(type.getComponentType(), classes);
+            return;
+        }
+        Class<?> clazz = type.resolve();
+        if (clazz == null || clazz.isPrimitive() || Modifier.isAbstract(clazz.getModifiers()) || isBuiltin(clazz) || !classes.add(clazz)) {
+            return;
+        }
+        // 字段的序列化器在首次遇到该字段值时才构建
+        ReflectionUtils.doWithFields(clazz, field -> collect(ResolvableType.forField(field, type), classes),
+                field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()));
+    }
+
+    private static boolean isBuiltin(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("com.alibaba.fastjson.");
+    }
+
+}
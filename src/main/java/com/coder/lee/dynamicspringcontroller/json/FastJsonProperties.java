@@ -0,0 +1,28 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Description: 报文json序列化配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 22:30
+ *
+ * @author coderLee23
+ */
+@Data
+@ConfigurationProperties(prefix = "api.json")
+public class FastJsonProperties {
+
+    /**
+     * 是否格式化输出，仅用于调试，报文更大且更耗CPU
+     */
+    private boolean pretty = false;
+
+    /**
+     * 启动时为generated controller的参数及返回类型预先构建序列化/反序列化器
+     */
+    private boolean prebuild = true;
+
+}
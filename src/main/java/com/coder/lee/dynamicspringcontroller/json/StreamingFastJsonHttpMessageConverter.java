@@ -0,0 +1,60 @@
+package com.coder.lee.dynamicspringcontroller.json;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONPObject;
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.alibaba.fastjson.support.spring.FastJsonContainer;
+import com.alibaba.fastjson.support.spring.FastJsonHttpMessageConverter;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Description: 直接写入响应输出流的 FastJsonHttpMessageConverter
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 22:30
+ *
+ * 父类先序列化到 ByteArrayOutputStream 以设置 Content-Length，再整体复制到响应流；
+ * 这里由 SerializeWriter 使用线程内复用的 char[]/byte[] 缓冲编码，一次写入响应流，不再产生中间对象。
+ * 响应未超过servlet容器缓冲区时容器仍会设置 Content-Length，否则分块输出。
+ *
+ * @author coderLee23
+ */
+public class StreamingFastJsonHttpMessageConverter extends FastJsonHttpMessageConverter {
+
+    /**
+     * swagger 返回的json包装类型，由父类特殊处理
+     */
+    private static final String SPRINGFOX_JSON = "springfox.documentation.spring.web.json.Json";
+
+    /**
+     * fastjson 已废弃的JSONP包装类型，由父类特殊处理；按类名判断，避免引用废弃类
+     */
+    private static final String MAPPING_FAST_JSON_VALUE = "com.alibaba.fastjson.support.spring.MappingFastJsonValue";
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        if (object instanceof JSONPObject || object instanceof FastJsonContainer || isWrapper(object)) {
+            super.writeInternal(object, outputMessage);
+            return;
+        }
+        FastJsonConfig config = getFastJsonConfig();
+        try {
+            JSON.writeJSONStringWithFastJsonConfig(outputMessage.getBody(), config.getCharset(), object, config.getSerializeConfig(),
+                    config.getSerializeFilters(), config.getDateFormat(), JSON.DEFAULT_GENERATE_FEATURE, config.getSerializerFeatures());
+        } catch (RuntimeException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isWrapper(Object object) {
+        if (object == null) {
+            return false;
+        }
+        String className = object.getClass().getName();
+        return SPRINGFOX_JSON.equals(className) || MAPPING_FAST_JSON_VALUE.equals(className);
+    }
+
+}
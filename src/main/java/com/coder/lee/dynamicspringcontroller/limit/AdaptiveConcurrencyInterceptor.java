@@ -0,0 +1,133 @@
+package com.coder.lee.dynamicspringcontroller.limit;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: generated controller方法的准入控制：超过自适应并发限制或已超过截止时间的请求直接返回503
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 19:10
+ *
+ * @author coderLee23
+ */
+public class AdaptiveConcurrencyInterceptor implements EndpointInterceptor, Ordered {
+
+    /**
+     * 客户端给出的截止时间，epoch毫秒
+     */
+    public static final String REQUEST_DEADLINE = "X-Request-Deadline";
+
+    /**
+     * 上游(网关/负载均衡)接收请求的时间，epoch毫秒，可带 t= 前缀
+     */
+    public static final String REQUEST_START = "X-Request-Start";
+
+    private final AdaptiveLimitProperties properties;
+
+    private final Map<ApiEndpoint, GradientLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * 按 api#method 共享限制，endpoint热替换后沿用已学习到的限制
+     */
+    private final Map<String, GradientLimiter> limitersByName = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyInterceptor(AdaptiveLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void bind(ApiEndpoint endpoint) {
+        limiters.put(endpoint, limitersByName.computeIfAbsent(endpoint.toString(), name -> new GradientLimiter(properties)));
+    }
+
+    @Override
+    public void unbind(ApiEndpoint endpoint) {
+        limiters.remove(endpoint);
+    }
+
+    @Override
+    public void before(ApiInvocation invocation) {
+        GradientLimiter limiter = limiters.get(invocation.getEndpoint());
+        if (limiter == null) {
+            return;
+        }
+        if (isExpired()) {
+            // 客户端已放弃等待，不再调用实现类
+            throw new ApiOverloadException(invocation.getEndpoint() + " request deadline exceeded", properties.getRetryAfter());
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ApiOverloadException(invocation.getEndpoint() + " concurrency limit " + limiter.getLimit() + " exceeded", properties.getRetryAfter());
+        }
+    }
+
+    @Override
+    public void after(ApiInvocation invocation) {
+        GradientLimiter limiter = limiters.get(invocation.getEndpoint());
+        if (limiter != null) {
+            limiter.release(invocation.getElapsedNanos(), true);
+        }
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        GradientLimiter limiter = limiters.get(invocation.getEndpoint());
+        if (limiter != null) {
+            limiter.release(invocation.getElapsedNanos(), false);
+        }
+    }
+
+    private boolean isExpired() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            // 非servlet线程(如批量调用线程池)
+            return false;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        long now = System.currentTimeMillis();
+        long deadline = parseMillis(request.getHeader(REQUEST_DEADLINE));
+        if (deadline > 0 && now > deadline) {
+            return true;
+        }
+        if (properties.getMaxQueueTime() == null) {
+            return false;
+        }
+        long start = parseMillis(request.getHeader(REQUEST_START));
+        return start > 0 && now - start > properties.getMaxQueueTime().toMillis();
+    }
+
+    private static long parseMillis(String header) {
+        if (!StringUtils.hasText(header)) {
+            return 0;
+        }
+        String value = header.startsWith("t=") ? header.substring(2) : header;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    public GradientLimiter getLimiter(ApiEndpoint endpoint) {
+        return limiters.get(endpoint);
+    }
+
+    /**
+     * 在指标之后、其他拦截器之前执行，被拒绝的请求计入错误数且不经过其他拦截器
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+}
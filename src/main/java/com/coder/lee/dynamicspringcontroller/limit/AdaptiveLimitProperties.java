@@ -0,0 +1,65 @@
+package com.coder.lee.dynamicspringcontroller.limit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Description: generated controller 自适应并发限制配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 19:10
+ *
+ * @author coderLee23
+ */
+@Data
+@ConfigurationProperties(prefix = "api.limit")
+public class AdaptiveLimitProperties {
+
+    /**
+     * 是否启用准入控制，默认关闭
+     */
+    private boolean enabled;
+
+    /**
+     * 每个endpoint的初始并发限制
+     */
+    private int initialLimit = 100;
+
+    private int minLimit = 8;
+
+    private int maxLimit = 1000;
+
+    /**
+     * 每次调整限制的间隔
+     */
+    private Duration window = Duration.ofMillis(500);
+
+    /**
+     * 一个窗口内至少多少个样本才调整限制
+     */
+    private int minSamples = 20;
+
+    /**
+     * 可容忍的延迟上升倍数，短期延迟不超过长期延迟的该倍数时不降低限制
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * 新限制与旧限制的平滑系数，取值(0, 1]
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 拒绝时响应的 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * 请求在进入generated controller前允许等待的最长时间，需上游在 X-Request-Start 头中写入接收时间(epoch毫秒)；
+     * 为空时只检查 X-Request-Deadline
+     */
+    private Duration maxQueueTime;
+
+}
@@ -0,0 +1,29 @@
+package com.coder.lee.dynamicspringcontroller.limit;
+
+import com.coder.lee.dynamicspringcontroller.error.StacklessResponseStatusException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Description: 请求被准入控制拒绝，响应503及 Retry-After；拒绝发生在每个过载请求上，与其他客户端异常一样按 api.error.stackless 不采集堆栈
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 19:10
+ *
+ * @author coderLee23
+ */
+public class ApiOverloadException extends StacklessResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public ApiOverloadException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.coder.lee.dynamicspringcontroller.limit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Description: 基于延迟梯度的并发限制，一个endpoint一个
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 19:10
+ *
+ * 每个窗口比较短期平均延迟与长期平均延迟：延迟上升时按比例收缩限制，延迟平稳且并发接近限制时增加 sqrt(limit)。
+ * 准入与释放只有CAS和 LongAdder，窗口结算由抢到标记的一个线程完成，其余线程不等待。
+ *
+ * @author coderLee23
+ */
+public class GradientLimiter {
+
+    /**
+     * 长期延迟的指数平均周期(窗口数)
+     */
+    private static final int LONG_WINDOW = 20;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AdaptiveLimitProperties properties;
+
+    private final long windowNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private final LongAdder rttSum = new LongAdder();
+
+    private final LongAdder rttCount = new LongAdder();
+
+    /**
+     * 窗口内的最大并发，判断限制是否被用满
+     */
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile int limit;
+
+    private volatile long windowStart = System.nanoTime();
+
+    /**
+     * 仅在结算线程中读写
+     */
+    private double longRtt;
+
+    public GradientLimiter(AdaptiveLimitProperties properties) {
+        this.properties = properties;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * @return 是否准入，准入后必须调用 {@link #release(long, boolean)}
+     */
+    public boolean tryAcquire() {
+        for (; ; ) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                int max = maxInflight.get();
+                if (current + 1 > max) {
+                    maxInflight.compareAndSet(max, current + 1);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos 调用耗时
+     * @param sample   是否作为延迟样本，异常调用不计入
+     */
+    public void release(long rttNanos, boolean sample) {
+        inflight.decrementAndGet();
+        if (sample) {
+            rttSum.add(rttNanos);
+            rttCount.increment();
+        }
+        long now = System.nanoTime();
+        if (now - windowStart >= windowNanos && updating.compareAndSet(false, true)) {
+            try {
+                update(now);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update(long now) {
+        if (now - windowStart < windowNanos) {
+            return;
+        }
+        long count = rttCount.sum();
+        if (count < properties.getMinSamples()) {
+            return;
+        }
+        windowStart = now;
+        double shortRtt = (double) rttSum.sumThenReset() / rttCount.sumThenReset();
+        int peak = maxInflight.getAndSet(inflight.get());
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_WINDOW;
+        int current = limit;
+        // 并发远低于限制时延迟不反映限制是否合适，不调整
+        if (peak < current / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.getRttTolerance() * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - properties.getSmoothing()) + target * properties.getSmoothing();
+        limit = (int) Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+        if (longRtt > 2 * shortRtt) {
+            // 延迟明显回落(如下游恢复)后加速长期延迟的回落，避免限制长时间偏大
+            longRtt *= 0.95;
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.coder.lee.dynamicspringcontroller.metrics;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Description: 记录每个generated controller方法的耗时、吞吐、并发数和异常数
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 13:40
+ *
+ * 所有meter在绑定endpoint时注册，请求路径上不创建tag。
+ *
+ * @author coderLee23
+ */
+public class EndpointMetricsInterceptor implements EndpointInterceptor, Ordered {
+
+    public static final String REQUESTS = "api.endpoint.requests";
+
+    public static final String ACTIVE = "api.endpoint.active";
+
+    public static final String ERRORS = "api.endpoint.errors";
+
+    private final MeterRegistry registry;
+
+    private final EndpointMetricsProperties properties;
+
+    private final Map<ApiEndpoint, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * 按 api#method 共享meter，endpoint热替换后指标保持连续
+     */
+    private final Map<String, EndpointMeters> metersByName = new ConcurrentHashMap<>();
+
+    public EndpointMetricsInterceptor(MeterRegistry registry, EndpointMetricsProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bind(ApiEndpoint endpoint) {
+        EndpointMeters endpointMeters = metersByName.computeIfAbsent(endpoint.toString(), name ->
+                new EndpointMeters(registry, Tags.of("api", endpoint.getApiInterface().getSimpleName(), "method", endpoint.getName()), properties));
+        meters.put(endpoint, endpointMeters);
+    }
+
+    @Override
+    public void unbind(ApiEndpoint endpoint) {
+        meters.remove(endpoint);
+    }
+
+    @Override
+    public void before(ApiInvocation invocation) {
+        EndpointMeters endpointMeters = meters.get(invocation.getEndpoint());
+        if (endpointMeters != null) {
+            endpointMeters.active.increment();
+        }
+    }
+
+    @Override
+    public void after(ApiInvocation invocation) {
+        EndpointMeters endpointMeters = meters.get(invocation.getEndpoint());
+        if (endpointMeters != null) {
+            endpointMeters.active.decrement();
+            endpointMeters.timer.record(invocation.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        EndpointMeters endpointMeters = meters.get(invocation.getEndpoint());
+        if (endpointMeters != null) {
+            endpointMeters.active.decrement();
+            endpointMeters.timer.record(invocation.getElapsedNanos(), TimeUnit.NANOSECONDS);
+            endpointMeters.errors.increment();
+        }
+    }
+
+    /**
+     * 指标放在拦截链最外层，耗时包含其他拦截器
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static class EndpointMeters {
+
+        private final Timer timer;
+
+        private final Counter errors;
+
+        private final LongAdder active = new LongAdder();
+
+        EndpointMeters(MeterRegistry registry, Tags tags, EndpointMetricsProperties properties) {
+            this.timer = Timer.builder(REQUESTS)
+                    .description("generated controller method latency and throughput")
+                    .tags(tags)
+                    .publishPercentiles(properties.getPercentiles())
+                    .publishPercentileHistogram(properties.isPercentileHistogram())
+                    .register(registry);
+            this.errors = Counter.builder(ERRORS)
+                    .description("generated controller method errors")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder(ACTIVE, active, LongAdder::sum)
+                    .description("generated controller method in-flight requests")
+                    .tags(tags)
+                    .register(registry);
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.coder.lee.dynamicspringcontroller.metrics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Description: generated controller 指标配置
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 13:40
+ *
+ * @author coderLee23
+ */
+@Data
+@ConfigurationProperties(prefix = "api.metrics")
+public class EndpointMetricsProperties {
+
+    /**
+     * 是否记录endpoint指标
+     */
+    private boolean enabled = true;
+
+    /**
+     * 客户端计算并发布的分位值
+     */
+    private double[] percentiles = {0.5, 0.95, 0.99};
+
+    /**
+     * 是否发布直方图桶，便于服务端聚合分位值
+     */
+    private boolean percentileHistogram = true;
+
+}
@@ -0,0 +1,21 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+/**
+ * Description: 多参数API方法生成的参数容器，请求体一次解析为容器后拆包调用XXXAPIImpl
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 17:05
+ *
+ * 容器的字段与方法参数同名同类型，例如 say(String wordStr, Word word) 对应请求体
+ * {"wordStr":"xx","word":{...}}
+ *
+ * @author coderLee23
+ */
+public interface ApiArguments {
+
+    /**
+     * @return 按方法参数顺序排列的参数值
+     */
+    Object[] toArray();
+
+}
@@ -1,18 +1,19 @@
 package com.coder.lee.dynamicspringcontroller.registry;
 
+import com.coder.lee.dynamicspringcontroller.async.ApiBlockingExecutors;
+import com.coder.lee.dynamicspringcontroller.async.ApiMicroBatchers;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchExecutor;
 import com.coder.lee.dynamicspringcontroller.interceptor.ControllerInterceptor;
-import io.swagger.annotations.Api;
-import io.swagger.annotations.ApiOperation;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.annotation.AnnotationDescription;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiStartupReport.Phase;
+import com.coder.lee.dynamicspringcontroller.registry.aot.AotControllerIndex;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -20,28 +21,24 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProce
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.classreading.MetadataReader;
-import org.springframework.core.type.classreading.MetadataReaderFactory;
-import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
-import org.springframework.http.MediaType;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -53,173 +50,263 @@ import java.util.stream.Collectors;
  * @author coderLee23
  */
 @Component
-public class ApiBeanDefinitionRegistryPostProcessor implements BeanDefinitionRegistryPostProcessor, ApplicationContextAware {
+public class ApiBeanDefinitionRegistryPostProcessor implements BeanDefinitionRegistryPostProcessor, ApplicationContextAware, SmartInitializingSingleton, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ApiBeanDefinitionRegistryPostProcessor.class);
 
     private static final ClassLoader CLASS_LOADER = ApiBeanDefinitionRegistryPostProcessor.class.getClassLoader();
 
-    // 由于BeanDefinitionRegistryPostProcessor中无法使用@Value注入(spring初始化顺序有关)，采用自己读取
-    //private static final String BASE_PATH = "com.coder.lee.dynamicspringcontroller.service.test";
-    private static final String API_SCAN_PATH = "api.scan.path";
+    private static final String API_GENERATION_PARALLELISM = "api.generation.parallelism";
 
-    private static final String DEFAULT_PROPERTIES = "application.properties";
+    private static final String API_BATCH_PARALLELISM = "api.batch.parallelism";
 
-    private static final String IMPL_SUFFIX = "Impl";
+    private static final String API_BATCH_MAX_SIZE = "api.batch.max-size";
 
-    private static final String API_IMPL_SUFFIX = "API" + IMPL_SUFFIX;
+    private static final String API_MICRO_BATCH_THREADS = "api.micro-batch.threads";
 
-    private static final String ENDPOINT_PREFIX = "org.springframework.bytebuddy.endpoint.";
+    private static final int DEFAULT_BATCH_MAX_SIZE = 64;
 
-    private static final String CONTROLLER_SUFFIX = "Controller";
-
-    private static final String VALUE = "value";
+    /**
+     * 在 application.properties 之外(命令行、环境变量、测试)配置时以 spring Environment 为准
+     */
+    private static final List<String> PROPERTY_KEYS = Arrays.asList(ApiDefinitionScanner.API_SCAN_PATH, ApiDefinitionScanner.API_SCAN_INDEX_ENABLED,
+            DispatchMode.API_DISPATCH_MODE, API_GENERATION_PARALLELISM, API_BATCH_PARALLELISM, API_BATCH_MAX_SIZE, API_MICRO_BATCH_THREADS);
 
     private static final String SAVE_FILE_PATH = String.format("%s\\src\\test\\java", System.getProperty("user.dir"));
 
+    private final ApiDefinitionScanner scanner = new ApiDefinitionScanner(CLASS_LOADER);
+
     private ApplicationContext applicationContext;
 
+    private ApiControllerGenerator generator;
+
+    /**
+     * 运行时构建controller的并行度，小于等于1时在当前线程依次构建
+     */
+    private int generationParallelism;
+
+    /**
+     * 构建期预生成的controller索引，指纹与当前生成选项一致时才使用
+     */
+    private AotControllerIndex aotControllerIndex;
+
+    /**
+     * 所有generated controller共用的批量调用执行器
+     */
+    private ApiBatchExecutor batchExecutor;
+
+    /**
+     * blocking方法的线程池，每个API一个
+     */
+    private final ApiBlockingExecutors blockingExecutors = new ApiBlockingExecutors();
+
+    /**
+     * micro batch 方法的批量调用器，共用计时线程及批量线程池
+     */
+    private ApiMicroBatchers microBatchers;
+
+    private final List<ApiEndpoint> apiEndpoints = new ArrayList<>();
+
+    private final List<Class<?>> controllerClasses = new ArrayList<>();
+
+    private List<EndpointInterceptor> interceptors = Collections.emptyList();
+
+    /**
+     * 启动时各阶段及各API的耗时
+     */
+    private final ApiStartupReport startupReport = new ApiStartupReport();
+
     @Override
     public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        long started = System.nanoTime();
+        Properties properties = getProperties();
+        startupReport.record(Phase.PROPERTIES, null, System.nanoTime() - started);
+        DispatchMode dispatchMode = DispatchMode.of(properties.getProperty(DispatchMode.API_DISPATCH_MODE));
+        // 仅在存在 EndpointInterceptor bean 时织入拦截链
+        boolean intercepted = applicationContext.getBeanNamesForType(EndpointInterceptor.class, true, false).length > 0;
+        ControllerTarget target = ControllerTarget.of(applicationContext);
+        generator = new ApiControllerGenerator(dispatchMode, target, intercepted);
+        aotControllerIndex = getAotControllerIndex();
+        generationParallelism = getParallelism(properties, API_GENERATION_PARALLELISM);
+        batchExecutor = new ApiBatchExecutor(getParallelism(properties, API_BATCH_PARALLELISM), getBatchMaxSize(properties), this::getValidator);
+        microBatchers = new ApiMicroBatchers(getParallelism(properties, API_MICRO_BATCH_THREADS));
+        LOGGER.info("controller dispatch mode: {}, target: {}, intercepted: {}, prebuilt: {}", dispatchMode, target, intercepted, aotControllerIndex != null);
         // 扫描项目中api定义的bean，interface以API结尾，实现类以APIImpl结尾
         // 如果API实现类未在spring管理中，则通过此扫描器获取
-        Set<BeanDefinition> scanList = getApiBeanDefinitions();
+        long scanStarted = System.nanoTime();
+        List<ApiDefinition> scanList = scanner.getApiDefinitions(properties);
+        startupReport.record(Phase.SCAN, null, System.nanoTime() - scanStarted);
         // 注册XXXAPIImpl到spring中
         registryBeanDefinitions(registry, scanList);
         // 注册controller到spring中
-        makeAndRegistryControllerBeanDefinitions(registry, scanList);
+        int prebuilt = makeAndRegistryControllerBeanDefinitions(registry, scanList);
+        startupReport.finish(System.nanoTime() - started, controllerClasses.size() - prebuilt, prebuilt);
+        LOGGER.info("api startup: {}", startupReport.summary());
     }
 
     private Properties getProperties() {
-        Properties props = new Properties();
-        //获取Properies对象的流对象
-        try {
-            props.load(CLASS_LOADER.getResourceAsStream(DEFAULT_PROPERTIES));
-        } catch (IOException e) {
-            LOGGER.error("读取默认配置文件失败！", e);
-        }
-        return props;
-    }
-
-    private void makeAndRegistryControllerBeanDefinitions(BeanDefinitionRegistry registry, Set<BeanDefinition> scanList) {
-        for (BeanDefinition beanDefinition : scanList) {
-            final String beanClassName = getBeanSimpleCLassName(beanDefinition);
-            //查找是否存在API interface接口
-            String interfaceClass = getInterfaceClass(beanDefinition.getBeanClassName());
-            LOGGER.info("获取interfaceClass {}", interfaceClass);
-            if (StringUtils.hasText(interfaceClass)) {
-                Class<?> beanClazz = makeController(beanClassName, interfaceClass);
-                //将生成的controller注册到spring容器中
-                registerControllerBeanDefinition(registry, beanClazz);
+        Properties properties = scanner.getProperties();
+        Environment environment = applicationContext.getEnvironment();
+        for (String key : PROPERTY_KEYS) {
+            String value = environment.getProperty(key);
+            if (value != null) {
+                properties.setProperty(key, value);
             }
         }
+        return properties;
     }
 
-    private Class<?> makeController(String beanClassName, String interfaceClass) {
-        // 获取API接口的class
-        Class<?> interfaceClazz = getInterfaceClazz(interfaceClass);
-        Assert.notNull(interfaceClazz, "interfaceClazz must not be null");
-        // 从刚才注册的spring容器中获取bean实例，获取接口类的信息，构造controller层
-        Object bean = applicationContext.getBean(beanClassName);
-        // 构架controller
-        DynamicType.Builder<Object> controllerBuilder = builderController(bean);
-        // 构建controller中的method
-        DynamicType.Unloaded<?> dynamicType = getObjectUnloaded(interfaceClazz, bean, controllerBuilder);
-        // 打印生成的controller的class类文件，便于观察是否生成正常
-        saveIn(dynamicType);
-        return dynamicType.load(CLASS_LOADER, ClassLoadingStrategy.Default.INJECTION)
-                .getLoaded();
-    }
-
-    private DynamicType.Unloaded<?> getObjectUnloaded(Class<?> interfaceClazz, Object bean, DynamicType.Builder<Object> controllerBuilder) {
-        // 构造controller invocation API 实现
-        InvocationHandler invocationHandler = new ControllerInterceptor(bean);
-        // 构建controller的methods
-        Method[] declaredMethods = interfaceClazz.getDeclaredMethods();
-        for (Method declaredMethod : declaredMethods) {
-            String name = declaredMethod.getName();
-            String methodName = name.substring(name.lastIndexOf(".") + 1);
-            Parameter[] parameters = declaredMethod.getParameters();
-            String postMappingName = getPostMappingName(methodName, parameters);
-            // @PostMapping(value="xxx")
-            AnnotationDescription postMapping = getPostMappingAnnotationDescription(postMappingName);
-            AnnotationDescription apiOperationDescription = getApiOperationDescription(postMappingName);
-            DynamicType.Builder.MethodDefinition.ParameterDefinition.Initial<Object> objectInitial = controllerBuilder.defineMethod(methodName, declaredMethod.getReturnType(), Modifier.PUBLIC);
-            if (ArrayUtils.isNotEmpty(parameters)) {
-                // method 有参处理
-                DynamicType.Builder.MethodDefinition.ParameterDefinition.Annotatable annotatable = null;
-                for (Parameter parameter : parameters) {
-                    annotatable = objectInitial.withParameter(parameter.getType(), parameter.getName()).annotateParameter(getRequestParamAnnotationDescription(), getValidatedDescription());
-                }
-                controllerBuilder = annotatable.throwing(Throwable.class).intercept(InvocationHandlerAdapter.of(invocationHandler)).annotateMethod(postMapping, apiOperationDescription);
-            } else {
-                //无参处理
-                controllerBuilder = objectInitial.throwing(Throwable.class).intercept(InvocationHandlerAdapter.of(invocationHandler)).annotateMethod(postMapping, apiOperationDescription);
-            }
+    private int getParallelism(Properties properties, String key) {
+        String parallelism = properties.getProperty(key);
+        if (!StringUtils.hasText(parallelism)) {
+            return 1;
         }
-        return controllerBuilder.make();
+        // auto 表示与CPU核数一致
+        return "auto".equalsIgnoreCase(parallelism.trim()) ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(parallelism.trim());
     }
 
-    private String getPostMappingName(String methodName, Parameter[] parameters) {
-        // 由于方法重载的问题，所以PostMapping value需要特殊处理，后缀增加参数类型评接方法名
-        return Arrays.stream(parameters).map(parameter -> parameter.getType().getSimpleName()).collect(Collectors.joining("_", methodName + "_", ""));
+    private int getBatchMaxSize(Properties properties) {
+        String maxSize = properties.getProperty(API_BATCH_MAX_SIZE);
+        return StringUtils.hasText(maxSize) ? Integer.parseInt(maxSize.trim()) : DEFAULT_BATCH_MAX_SIZE;
     }
 
-    private AnnotationDescription getPostMappingAnnotationDescription(String name) {
-        return AnnotationDescription.Builder.ofType(PostMapping.class)
-                .defineArray(VALUE, name)
-                .defineArray("produces", MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    private AotControllerIndex getAotControllerIndex() {
+        AotControllerIndex index = AotControllerIndex.load(CLASS_LOADER);
+        if (index == null) {
+            return null;
+        }
+        // 没有拦截器时织入的预生成controller走空链快速路径，同样可用；存在拦截器时预生成的必须已织入
+        String fingerprint = generator.fingerprint(generator.isIntercepted() || index.isIntercepted());
+        if (!fingerprint.equals(index.getFingerprint())) {
+            LOGGER.info("prebuilt controllers ({}) do not match current options ({}), generate at runtime", index.getFingerprint(), fingerprint);
+            return null;
+        }
+        return index;
     }
 
-    private AnnotationDescription getRequestParamAnnotationDescription() {
-        return AnnotationDescription.Builder.ofType(RequestBody.class)
-                .build();
+    /**
+     * @return 使用构建期预生成controller的API数
+     */
+    private int makeAndRegistryControllerBeanDefinitions(BeanDefinitionRegistry registry, List<ApiDefinition> scanList) {
+        // 1. 解析接口及endpoint，优先使用构建期预生成的controller
+        List<ControllerDefinition> controllerDefinitions = new ArrayList<>();
+        for (ApiDefinition apiDefinition : scanList) {
+            final String beanClassName = apiDefinition.getBeanName();
+            //查找是否存在API interface接口
+            String interfaceClass = apiDefinition.getInterfaceClassName();
+            LOGGER.info("获取interfaceClass {}", interfaceClass);
+            if (StringUtils.hasText(interfaceClass)) {
+                controllerDefinitions.add(getControllerDefinition(beanClassName, interfaceClass));
+            }
+        }
+        // 2. 构建controller，各API之间互不依赖，可并行
+        makeControllers(controllerDefinitions);
+        // 3. 按扫描顺序加载class并注册，保证结果确定
+        int prebuilt = 0;
+        for (ControllerDefinition controllerDefinition : controllerDefinitions) {
+            prebuilt += controllerDefinition.prebuilt != null ? 1 : 0;
+            Class<?> beanClazz = loadController(controllerDefinition);
+            //将生成的controller注册到spring容器中
+            long started = System.nanoTime();
+            registerControllerBeanDefinition(registry, beanClazz);
+            startupReport.record(Phase.REGISTRATION, controllerDefinition.beanClassName, System.nanoTime() - started);
+        }
+        return prebuilt;
     }
 
-    private AnnotationDescription getValidatedDescription() {
-        return AnnotationDescription.Builder.ofType(Validated.class)
-                .build();
+    private ControllerDefinition getControllerDefinition(String beanClassName, String interfaceClass) {
+        // 获取API接口的class
+        long started = System.nanoTime();
+        Class<?> interfaceClazz = scanner.getInterfaceClazz(interfaceClass);
+        Assert.notNull(interfaceClazz, "interfaceClazz must not be null");
+        ControllerDefinition controllerDefinition = new ControllerDefinition(beanClassName, ApiControllerGenerator.getApiEndpoints(interfaceClazz, beanClassName));
+        startupReport.record(Phase.INTERFACE_RESOLUTION, beanClassName, System.nanoTime() - started);
+        started = System.nanoTime();
+        controllerDefinition.prebuilt = getPrebuiltController(beanClassName, controllerDefinition.endpoints);
+        if (controllerDefinition.prebuilt != null) {
+            startupReport.record(Phase.CLASS_LOADING, beanClassName, System.nanoTime() - started);
+        } else if (generator.getDispatchMode() == DispatchMode.PROXY) {
+            // proxy模式：从刚才注册的spring容器中获取bean实例，构造controller invocation API 实现
+            started = System.nanoTime();
+            controllerDefinition.invocationHandler = new ControllerInterceptor(applicationContext.getBean(beanClassName));
+            startupReport.record(Phase.BEAN_INSTANTIATION, beanClassName, System.nanoTime() - started);
+        }
+        return controllerDefinition;
     }
 
-
-    private DynamicType.Builder<Object> builderController(Object bean) {
-        // @Api(tags="xxx")
-        AnnotationDescription apiOperationDesc = getApiAnnotationDescription();
-        // @RestController("/")
-        AnnotationDescription restControllerDesc = getRestControllerAnnotationDescription();
-        return new ByteBuddy()
-                // 继承父类
-                .subclass(Object.class)
-                // 指定controller类名
-                .name(ENDPOINT_PREFIX.concat(bean.getClass().getSimpleName()).concat(CONTROLLER_SUFFIX))
-                // 添加 @Controller, @Api 注解
-                .annotateType(restControllerDesc, apiOperationDesc);
+    private Class<?> getPrebuiltController(String beanClassName, List<ApiEndpoint> endpoints) {
+        if (aotControllerIndex == null) {
+            return null;
+        }
+        String controllerClassName = aotControllerIndex.getControllerClassName(beanClassName);
+        if (controllerClassName == null) {
+            return null;
+        }
+        // endpoint下标已编译进预生成的字节码，接口变化后必须重新生成；在加载预生成的class之前检查，避免与运行时生成的同名class冲突
+        if (!ApiControllerGenerator.signature(endpoints).equals(aotControllerIndex.getSignature(beanClassName))) {
+            LOGGER.warn("api interface of {} changed since controller {} was prebuilt, generate at runtime", beanClassName, controllerClassName);
+            return null;
+        }
+        if (!ClassUtils.isPresent(controllerClassName, CLASS_LOADER)) {
+            return null;
+        }
+        LOGGER.info("use prebuilt controller {}", controllerClassName);
+        return ClassUtils.resolveClassName(controllerClassName, CLASS_LOADER);
     }
 
-    private AnnotationDescription getRestControllerAnnotationDescription() {
-        return AnnotationDescription.Builder.ofType(RestController.class)
-                .define(VALUE, "/")
-                .build();
+    private void makeControllers(List<ControllerDefinition> controllerDefinitions) {
+        List<ControllerDefinition> unbuilt = controllerDefinitions.stream()
+                .filter(controllerDefinition -> controllerDefinition.prebuilt == null)
+                .collect(Collectors.toList());
+        if (generationParallelism <= 1 || unbuilt.size() <= 1) {
+            unbuilt.forEach(this::makeController);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(generationParallelism, unbuilt.size()));
+        try {
+            // 在自定义的ForkJoinPool中执行parallelStream，避免占用commonPool
+            pool.submit(() -> unbuilt.parallelStream().forEach(this::makeController)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("make controllers interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("make controllers error", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        LOGGER.info("made {} controllers with parallelism {}", unbuilt.size(), pool.getParallelism());
     }
 
-    private AnnotationDescription getApiAnnotationDescription() {
-        return AnnotationDescription.Builder.ofType(Api.class).build();
+    private void makeController(ControllerDefinition controllerDefinition) {
+        // 构建controller及其中的method
+        long started = System.nanoTime();
+        controllerDefinition.dynamicType = generator.make(controllerDefinition.beanClassName, controllerDefinition.endpoints, controllerDefinition.invocationHandler);
+        startupReport.record(Phase.MAKE, controllerDefinition.beanClassName, System.nanoTime() - started);
     }
 
-    private AnnotationDescription getApiOperationDescription(String postMappingName) {
-        return AnnotationDescription.Builder.ofType(ApiOperation.class)
-                .define(VALUE, postMappingName)
-                .build();
+    private Class<?> loadController(ControllerDefinition controllerDefinition) {
+        Class<?> controllerClazz = controllerDefinition.prebuilt;
+        if (controllerClazz == null) {
+            // 打印生成的controller的class类文件，便于观察是否生成正常
+            long started = System.nanoTime();
+            saveIn(controllerDefinition.dynamicType);
+            startupReport.record(Phase.SAVE_IN, controllerDefinition.beanClassName, System.nanoTime() - started);
+            started = System.nanoTime();
+            // 加载在独立的子加载器中：同一JVM中以不同选项(dispatch mode、servlet/reactive)启动的上下文生成的同名controller互不冲突
+            controllerClazz = controllerDefinition.dynamicType.load(CLASS_LOADER, ClassLoadingStrategy.Default.CHILD_FIRST)
+                    .getLoaded();
+            startupReport.record(Phase.CLASS_LOADING, controllerDefinition.beanClassName, System.nanoTime() - started);
+        }
+        bindApiEndpoints(controllerClazz, controllerDefinition.endpoints);
+        controllerClasses.add(controllerClazz);
+        return controllerClazz;
     }
 
-    private Class<?> getInterfaceClazz(String interfaceClass) {
-        try {
-            return CLASS_LOADER.loadClass(interfaceClass);
-        } catch (ClassNotFoundException e) {
-            LOGGER.error("ClassNotFoundException error ", e);
-        }
-        return null;
+    private void bindApiEndpoints(Class<?> controllerClazz, List<ApiEndpoint> endpoints) {
+        ApiControllerGenerator.bindApiEndpoints(controllerClazz, endpoints, batchExecutor);
+        blockingExecutors.bind(endpoints);
+        microBatchers.bind(endpoints);
+        apiEndpoints.addAll(endpoints);
     }
 
     private void saveIn(DynamicType.Unloaded<?> dynamicType) {
@@ -239,46 +326,93 @@ public class ApiBeanDefinitionRegistryPostProcessor implements BeanDefinitionReg
         LOGGER.info("register controller {} bean definition: {}", simpleName, definition);
     }
 
-    private void registryBeanDefinitions(BeanDefinitionRegistry registry, Set<BeanDefinition> scanList) {
-        for (BeanDefinition beanDefinition : scanList) {
-            final String beanClassName = getBeanSimpleCLassName(beanDefinition);
-            registry.registerBeanDefinition(beanClassName, beanDefinition);
-            LOGGER.info("注册beanName为【{}】的bean【{}】到spring容器中", beanClassName, beanDefinition.getBeanClassName());
+    private void registryBeanDefinitions(BeanDefinitionRegistry registry, List<ApiDefinition> scanList) {
+        for (ApiDefinition apiDefinition : scanList) {
+            final String beanClassName = apiDefinition.getBeanName();
+            long started = System.nanoTime();
+            registry.registerBeanDefinition(beanClassName, apiDefinition.getBeanDefinition());
+            startupReport.record(Phase.REGISTRATION, beanClassName, System.nanoTime() - started);
+            LOGGER.info("注册beanName为【{}】的bean【{}】到spring容器中", beanClassName, apiDefinition.getImplClassName());
         }
     }
 
-    private Set<BeanDefinition> getApiBeanDefinitions() {
-        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(
-                false);
-        provider.addIncludeFilter((metadataReader, metadataReaderFactory) -> metadataReader.getClassMetadata().getClassName().endsWith(API_IMPL_SUFFIX));
-        Properties properties = getProperties();
-        String apiPath = properties.getProperty(API_SCAN_PATH);
-        Assert.hasText(apiPath, String.format("%s must be configured in %s", API_SCAN_PATH, DEFAULT_PROPERTIES));
-        return provider.findCandidateComponents(apiPath);
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory factory) throws BeansException {
     }
 
-    private String getInterfaceClass(String beanClassName) {
-        MetadataReaderFactory factory = new SimpleMetadataReaderFactory();
-        try {
-            MetadataReader metadataReader = factory.getMetadataReader(beanClassName);
-            String[] interfaceNames = metadataReader.getClassMetadata().getInterfaceNames();
-            String beanClassNameSuffix = beanClassName.substring(beanClassName.lastIndexOf(".") + 1);
-            return Arrays.stream(interfaceNames).filter(interfaceName -> interfaceName.substring(interfaceName.lastIndexOf(".") + 1).concat(IMPL_SUFFIX).equals(beanClassNameSuffix)).findFirst().orElse(null);
-        } catch (IOException e) {
-            LOGGER.error("获取interface class error", e);
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 所有单例初始化完成后，将排好序的拦截器绑定到每个endpoint
+        List<EndpointInterceptor> interceptors = applicationContext.getBeanProvider(EndpointInterceptor.class)
+                .orderedStream()
+                .collect(Collectors.toList());
+        if (!generator.isIntercepted() && !interceptors.isEmpty()) {
+            LOGGER.warn("EndpointInterceptor {} registered after controller generation, ignored", interceptors);
+            return;
         }
-        return null;
+        this.interceptors = interceptors;
+        apiEndpoints.forEach(endpoint -> endpoint.bind(interceptors));
+        LOGGER.info("bind {} endpoint interceptors to {} api endpoints", interceptors.size(), apiEndpoints.size());
     }
 
-    private String getBeanSimpleCLassName(BeanDefinition beanDefinition) {
-        String beanClassName = beanDefinition.getBeanClassName();
-        Assert.hasText(beanClassName, "beanClassName must not be null or empty");
-        beanClassName = beanClassName.substring(beanClassName.lastIndexOf(".") + 1);
-        return beanClassName;
+    /**
+     * 批量调用的参数校验器：容器中唯一的 Validator，没有时(如未引入 spring-boot-starter-validation 的自动配置)使用默认的 ValidatorFactory
+     */
+    private Validator getValidator() {
+        return applicationContext.getBeanProvider(Validator.class)
+                .getIfUnique(() -> Validation.buildDefaultValidatorFactory().getValidator());
     }
 
     @Override
-    public void postProcessBeanFactory(ConfigurableListableBeanFactory factory) throws BeansException {
+    public void destroy() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+        }
+        blockingExecutors.shutdown();
+        if (microBatchers != null) {
+            microBatchers.shutdown();
+        }
+    }
+
+    public ApiStartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    public ApiControllerGenerator getGenerator() {
+        return generator;
+    }
+
+    public ApiBatchExecutor getBatchExecutor() {
+        return batchExecutor;
+    }
+
+    public ApiBlockingExecutors getBlockingExecutors() {
+        return blockingExecutors;
+    }
+
+    public ApiMicroBatchers getMicroBatchers() {
+        return microBatchers;
+    }
+
+    /**
+     * @return 启动时注册的generated controller
+     */
+    public List<Class<?>> getControllerClasses() {
+        return controllerClasses;
+    }
+
+    /**
+     * @return 启动时注册的endpoint
+     */
+    public List<ApiEndpoint> getApiEndpoints() {
+        return Collections.unmodifiableList(apiEndpoints);
+    }
+
+    /**
+     * @return 已排序的拦截链，未织入拦截链时为空
+     */
+    public List<EndpointInterceptor> getInterceptors() {
+        return interceptors;
     }
 
     @Override
@@ -286,5 +420,27 @@ public class ApiBeanDefinitionRegistryPostProcessor implements BeanDefinitionReg
         this.applicationContext = applicationContext;
     }
 
+    /**
+     * 一个待注册的controller：预生成的class，或待构建/已构建的 DynamicType
+     */
+    private static class ControllerDefinition {
+
+        private final String beanClassName;
+
+        private final List<ApiEndpoint> endpoints;
+
+        private Class<?> prebuilt;
+
+        private InvocationHandler invocationHandler;
+
+        private DynamicType.Unloaded<?> dynamicType;
+
+        ControllerDefinition(String beanClassName, List<ApiEndpoint> endpoints) {
+            this.beanClassName = beanClassName;
+            this.endpoints = endpoints;
+        }
+
+    }
+
 
 }
@@ -0,0 +1,212 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import javax.validation.Constraint;
+import javax.validation.Valid;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Description: 生成controller时判断参数是否存在 bean validation 约束，只为存在约束的参数织入 @Validated/@Valid
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 00:10
+ *
+ * 约束包括类/字段/getter上的约束注解、容器元素上的约束注解(List&lt;@NotBlank String&gt;)，以及 @Valid 级联到的类型中的约束。
+ * 与 hibernate validator 的元数据一致，只通过反射读取注解，构建期无需创建 ValidatorFactory。
+ *
+ * @author coderLee23
+ */
+public final class ApiConstraints {
+
+    /**
+     * 软引用只在内存不足时回收，热注册的API退役时由 {@link #evict(Predicate)} 清除其类
+     */
+    private static final Map<Class<?>, Boolean> CONSTRAINED = new ConcurrentReferenceHashMap<>();
+
+    private ApiConstraints() {
+    }
+
+    /**
+     * @return 校验该类型的对象时是否可能产生约束违反
+     */
+    public static boolean isConstrained(Class<?> clazz) {
+        Boolean constrained = CONSTRAINED.get(clazz);
+        if (constrained == null) {
+            constrained = isConstrained(clazz, new HashSet<>());
+            CONSTRAINED.put(clazz, constrained);
+        }
+        return constrained;
+    }
+
+    /**
+     * 清除已退役的热注册API的类
+     */
+    public static void evict(Predicate<Class<?>> retired) {
+        CONSTRAINED.keySet().removeIf(retired);
+    }
+
+    /**
+     * @return 对象及其泛型参数、数组元素中是否有类型存在约束，即 @Valid 级联是否有意义
+     */
+    public static boolean isCascadeConstrained(Type type) {
+        return isCascadeConstrained(ResolvableType.forType(type), new HashSet<>());
+    }
+
+    /**
+     * @return 注解中是否有约束注解(包括 @NotBlank.List 等重复约束容器)
+     */
+    public static boolean hasConstraint(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (isConstraint(annotation.annotationType()) || isConstraintContainer(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 约束所在的类型，即需要预先构建校验元数据的类型
+     */
+    public static List<Class<?>> getConstrainedTypes(Type type) {
+        List<Class<?>> types = new ArrayList<>();
+        collect(ResolvableType.forType(type), types);
+        return types;
+    }
+
+    private static void collect(ResolvableType type, List<Class<?>> types) {
+        for (ResolvableType generic : type.getGenerics()) {
+            collect(generic, types);
+        }
+        if (type.isArray()) {
+            collect(type.getComponentType(), types);
+            return;
+        }
+        Class<?> clazz = type.resolve();
+        if (clazz == null || types.contains(clazz) || !isConstrained(clazz)) {
+            return;
+        }
+        types.add(clazz);
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(Valid.class)) {
+                    collect(ResolvableType.forField(field, type), types);
+                }
+            }
+        }
+    }
+
+    private static boolean isConstrained(Class<?> clazz, Set<Class<?>> visiting) {
+        if (clazz.isPrimitive() || clazz.isArray() || isBuiltin(clazz) || !visiting.add(clazz)) {
+            return false;
+        }
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+        hierarchy.addAll(ClassUtils.getAllInterfacesForClassAsSet(clazz));
+        for (Class<?> current : hierarchy) {
+            if (hasConstraint(current.getDeclaredAnnotations())) {
+                return true;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && isConstrained(field, field.getAnnotatedType(), visiting)) {
+                    return true;
+                }
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                // getter上的约束
+                if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0 && method.getReturnType() != void.class
+                        && isConstrained(method, method.getAnnotatedReturnType(), visiting)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstrained(AnnotatedElement element, AnnotatedType annotatedType, Set<Class<?>> visiting) {
+        if (hasConstraint(element.getDeclaredAnnotations())) {
+            return true;
+        }
+        if (element.isAnnotationPresent(Valid.class) && isCascadeConstrained(ResolvableType.forType(annotatedType.getType()), visiting)) {
+            return true;
+        }
+        return isContainerElementConstrained(annotatedType, visiting);
+    }
+
+    /**
+     * List&lt;@NotBlank String&gt;、List&lt;@Valid Word&gt; 等容器元素上的约束
+     */
+    private static boolean isContainerElementConstrained(AnnotatedType annotatedType, Set<Class<?>> visiting) {
+        List<AnnotatedType> elements = new ArrayList<>();
+        if (annotatedType instanceof AnnotatedParameterizedType) {
+            elements.addAll(Arrays.asList(((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments()));
+        } else if (annotatedType instanceof AnnotatedArrayType) {
+            elements.add(((AnnotatedArrayType) annotatedType).getAnnotatedGenericComponentType());
+        }
+        for (AnnotatedType element : elements) {
+            if (hasConstraint(element.getDeclaredAnnotations())) {
+                return true;
+            }
+            if (element.isAnnotationPresent(Valid.class) && isCascadeConstrained(ResolvableType.forType(element.getType()), visiting)) {
+                return true;
+            }
+            if (isContainerElementConstrained(element, visiting)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCascadeConstrained(ResolvableType type, Set<Class<?>> visiting) {
+        for (ResolvableType generic : type.getGenerics()) {
+            if (isCascadeConstrained(generic, visiting)) {
+                return true;
+            }
+        }
+        if (type.isArray()) {
+            return isCascadeConstrained(type.getComponentType(), visiting);
+        }
+        Class<?> clazz = type.resolve();
+        return clazz != null && isConstrained(clazz, visiting);
+    }
+
+    private static boolean isConstraint(Class<? extends Annotation> annotationType) {
+        return annotationType.isAnnotationPresent(Constraint.class);
+    }
+
+    private static boolean isConstraintContainer(Annotation annotation) {
+        try {
+            Method value = annotation.annotationType().getDeclaredMethod("value");
+            Class<?> returnType = value.getReturnType();
+            return returnType.isArray() && returnType.getComponentType().isAnnotation()
+                    && isConstraint(returnType.getComponentType().asSubclass(Annotation.class));
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBuiltin(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+}
@@ -0,0 +1,760 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.async.ApiBulkCall;
+import com.coder.lee.dynamicspringcontroller.async.ApiCall;
+import com.coder.lee.dynamicspringcontroller.async.ApiMicroBatcher;
+import com.coder.lee.dynamicspringcontroller.async.ApiOffload;
+import com.coder.lee.dynamicspringcontroller.async.ApiReactiveOffload;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchCall;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchExecutor;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchInvoker;
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchResult;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointAdvice;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointIndex;
+import com.coder.lee.dynamicspringcontroller.json.BinaryFormat;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.apache.commons.lang3.ArrayUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Description: 根据API接口使用ByteBuddy构建controller，运行时注册与构建期(AOT)预生成共用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 14:30
+ *
+ * @author coderLee23
+ */
+public class ApiControllerGenerator {
+
+    /**
+     * 生成规则变化时递增，使构建期预生成的controller失效；API接口的变化由 {@link #signature(List)} 检查
+     */
+    private static final int VERSION = 12;
+
+    /**
+     * json在前作为默认格式，二进制格式只在客户端明确要求时输出
+     */
+    private static final String[] PRODUCES = Stream.concat(Stream.of(MediaType.APPLICATION_JSON_VALUE),
+            Arrays.stream(BinaryFormat.values()).map(format -> format.getMediaType().toString())).toArray(String[]::new);
+
+    private static final String ENDPOINT_PREFIX = "org.springframework.bytebuddy.endpoint.";
+
+    private static final String CONTROLLER_SUFFIX = "Controller";
+
+    private static final String ARGUMENTS_SUFFIX = "Arguments";
+
+    private static final String BATCH_METHOD = "_batch";
+
+    private static final String CALL_SUFFIX = "Call";
+
+    private static final String BULK_CALL_SUFFIX = "BulkCall";
+
+    private static final Method OFFLOAD_DIRECT = ReflectionUtils.findMethod(ApiOffload.class, "submit", ApiEndpoint[].class, int.class, ApiCall.class);
+
+    private static final Method OFFLOAD_PROXY = ReflectionUtils.findMethod(ApiOffload.class, "submit", ApiEndpoint[].class, int.class, InvocationHandler.class, Object.class, Object[].class);
+
+    private static final Method REACTIVE_OFFLOAD_DIRECT = ReflectionUtils.findMethod(ApiReactiveOffload.class, "submit", ApiEndpoint[].class, int.class, ApiCall.class);
+
+    private static final Method REACTIVE_OFFLOAD_PROXY = ReflectionUtils.findMethod(ApiReactiveOffload.class, "submit", ApiEndpoint[].class, int.class, InvocationHandler.class, Object.class, Object[].class);
+
+    private static final Method MICRO_BATCH_DIRECT = ReflectionUtils.findMethod(ApiMicroBatcher.class, "submit", ApiEndpoint[].class, int.class, ApiBulkCall.class, Object.class);
+
+    private static final Method MICRO_BATCH_PROXY = ReflectionUtils.findMethod(ApiMicroBatcher.class, "submit", ApiEndpoint[].class, int.class, InvocationHandler.class, Object.class);
+
+    private static final Method REACTIVE_MICRO_BATCH_DIRECT = ReflectionUtils.findMethod(ApiMicroBatcher.class, "submitReactive", ApiEndpoint[].class, int.class, ApiBulkCall.class, Object.class);
+
+    private static final Method REACTIVE_MICRO_BATCH_PROXY = ReflectionUtils.findMethod(ApiMicroBatcher.class, "submitReactive", ApiEndpoint[].class, int.class, InvocationHandler.class, Object.class);
+
+    private static final Constructor<?> OBJECT_CONSTRUCTOR = ClassUtils.getConstructorIfAvailable(Object.class);
+
+    private static final Method BATCH_INVOKE = ReflectionUtils.findMethod(ApiBatchInvoker.class, "invoke", Object.class, List.class);
+
+    private static final Method BATCH_INVOKE_REACTIVE = ReflectionUtils.findMethod(ApiBatchInvoker.class, "invokeReactive", Object.class, List.class);
+
+    private static final String VALUE = "value";
+
+    public static final String DELEGATE_FIELD = "delegate";
+
+    private static final String HANDLER_FIELD = "invocationHandler";
+
+    private final DispatchMode dispatchMode;
+
+    private final ControllerTarget target;
+
+    /**
+     * 是否在controller方法中织入拦截链
+     */
+    private final boolean intercepted;
+
+    public ApiControllerGenerator(DispatchMode dispatchMode, ControllerTarget target, boolean intercepted) {
+        this.dispatchMode = dispatchMode;
+        this.target = target;
+        this.intercepted = intercepted;
+    }
+
+    /**
+     * @return 生成选项的指纹，构建期预生成的controller仅在指纹一致时可直接使用
+     */
+    public String fingerprint() {
+        return fingerprint(intercepted);
+    }
+
+    /**
+     * 织入拦截链的controller在没有适用拦截器时只多一次空链判断，运行时没有拦截器也可使用织入的预生成controller
+     *
+     * @param intercepted 是否织入拦截链
+     * @return 以当前调用模式、目标生成的controller的指纹
+     */
+    public String fingerprint(boolean intercepted) {
+        return String.format("version=%d,dispatch=%s,target=%s,intercepted=%s", VERSION, dispatchMode, target, intercepted);
+    }
+
+    /**
+     * API接口中影响生成结果的部分的摘要：endpoint的下标、映射名称、方法签名及注解、参数名称及约束、批量方法
+     * endpoint下标以常量写入织入的字节码，接口变化后预生成的controller不可再用
+     *
+     * @param endpoints {@link #getApiEndpoints(Class, String)} 解析的endpoint
+     */
+    public static String signature(List<ApiEndpoint> endpoints) {
+        StringBuilder builder = new StringBuilder();
+        if (!endpoints.isEmpty()) {
+            Class<?> interfaceClazz = endpoints.get(0).getApiInterface();
+            builder.append(interfaceClazz.getName()).append(describe(interfaceClazz.getAnnotations())).append('\n');
+        }
+        for (ApiEndpoint endpoint : endpoints) {
+            Method method = endpoint.getMethod();
+            builder.append(endpoint.getIndex()).append(' ').append(endpoint.getName()).append(' ')
+                    .append(method.toGenericString()).append(describe(method.getAnnotations()));
+            for (Parameter parameter : method.getParameters()) {
+                builder.append(' ').append(parameter.getName()).append(describe(parameter.getAnnotations()))
+                        .append(ApiConstraints.isConstrained(parameter.getType()))
+                        .append(ApiConstraints.isCascadeConstrained(parameter.getParameterizedType()));
+            }
+            if (endpoint.isMicroBatched()) {
+                builder.append(" bulk ").append(endpoint.getBulkMethod().toGenericString());
+            }
+            builder.append('\n');
+        }
+        return DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 注解的 toString 在 jdk8 中按 HashMap 顺序输出属性，不同jvm间不稳定，按属性名排序后拼接
+     */
+    private static String describe(Annotation[] annotations) {
+        return Arrays.stream(annotations).map(ApiControllerGenerator::describeValue).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String describeValue(Object value) {
+        if (value instanceof Annotation) {
+            Annotation annotation = (Annotation) value;
+            return Arrays.stream(annotation.annotationType().getDeclaredMethods())
+                    .map(Method::getName)
+                    .sorted()
+                    .map(name -> name + "=" + describeValue(AnnotationUtils.getValue(annotation, name)))
+                    .collect(Collectors.joining(",", "@" + annotation.annotationType().getName() + "(", ")"));
+        }
+        if (value != null && value.getClass().isArray()) {
+            return Arrays.stream(ObjectUtils.toObjectArray(value)).map(ApiControllerGenerator::describeValue).collect(Collectors.joining(",", "{", "}"));
+        }
+        return value instanceof Class ? ((Class<?>) value).getName() : String.valueOf(value);
+    }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public ControllerTarget getTarget() {
+        return target;
+    }
+
+    public boolean isIntercepted() {
+        return intercepted;
+    }
+
+    public static String getControllerClassName(String beanClassName) {
+        return ENDPOINT_PREFIX.concat(beanClassName).concat(CONTROLLER_SUFFIX);
+    }
+
+    /**
+     * 批量调用的映射名称，如 SayAPI/_batch
+     */
+    public static String getBatchMappingName(Class<?> interfaceClazz) {
+        return interfaceClazz.getSimpleName().concat("/").concat(BATCH_METHOD);
+    }
+
+    /**
+     * 将endpoint写入controller的 apiEndpoints 静态字段，供织入的拦截链访问，同时绑定批量调用入口
+     */
+    public static void bindApiEndpoints(Class<?> controllerClazz, List<ApiEndpoint> endpoints, ApiBatchExecutor batchExecutor) {
+        setStaticField(controllerClazz, ApiEndpoint.ENDPOINTS_FIELD, endpoints.toArray(new ApiEndpoint[0]));
+        setStaticField(controllerClazz, ApiBatchInvoker.INVOKER_FIELD, new ApiBatchInvoker(controllerClazz, endpoints, batchExecutor));
+    }
+
+    private static void setStaticField(Class<?> controllerClazz, String name, Object value) {
+        Field field = ReflectionUtils.findField(controllerClazz, name);
+        Assert.notNull(field, "controller must declare " + name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, null, value);
+    }
+
+    /**
+     * @return 映射名称 -> controller方法，包括批量调用方法及 @IdempotentGet 的GET方法
+     */
+    public static Map<String, Method> getControllerMethods(Class<?> controllerClazz) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Method method : controllerClazz.getDeclaredMethods()) {
+            RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+            if (requestMapping != null) {
+                methods.put(requestMapping.value()[0], method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * 不经过spring注入，直接设置 direct 模式controller的 delegate
+     */
+    public static void setDelegate(Object controller, Object delegate) {
+        Field field = ReflectionUtils.findField(controller.getClass(), DELEGATE_FIELD);
+        Assert.notNull(field, "controller must declare " + DELEGATE_FIELD);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, controller, delegate);
+    }
+
+    /**
+     * 解析API接口的endpoint，按映射名排序保证下标在运行时与构建期一致
+     */
+    public static List<ApiEndpoint> getApiEndpoints(Class<?> interfaceClazz, String beanClassName) {
+        Method[] declaredMethods = interfaceClazz.getDeclaredMethods();
+        Arrays.sort(declaredMethods, Comparator.comparing(method -> getPostMappingName(method.getName(), method.getParameters())));
+        List<ApiEndpoint> endpoints = new ArrayList<>(declaredMethods.length);
+        for (Method declaredMethod : declaredMethods) {
+            String postMappingName = getPostMappingName(declaredMethod.getName(), declaredMethod.getParameters());
+            endpoints.add(new ApiEndpoint(endpoints.size(), postMappingName, interfaceClazz, declaredMethod, beanClassName));
+        }
+        return endpoints;
+    }
+
+    /**
+     * 构建controller
+     *
+     * @param beanClassName      XXXAPIImpl 的 beanName
+     * @param endpoints          {@link #getApiEndpoints(Class, String)} 解析的endpoint
+     * @param invocationHandler  proxy 模式下的调用实现，direct 模式为 null
+     */
+    public DynamicType.Unloaded<?> make(String beanClassName, List<ApiEndpoint> endpoints, InvocationHandler invocationHandler) {
+        Assert.notEmpty(endpoints, "endpoints must not be empty");
+        Class<?> interfaceClazz = endpoints.get(0).getApiInterface();
+        DynamicType.Builder<Object> controllerBuilder = builderController(beanClassName);
+        if (dispatchMode == DispatchMode.DIRECT) {
+            // direct模式：controller持有API接口类型的delegate字段，由spring按beanName注入XXXAPIImpl
+            controllerBuilder = controllerBuilder.defineField(DELEGATE_FIELD, interfaceClazz, Visibility.PRIVATE)
+                    .annotateField(getAutowiredDescription(), getQualifierDescription(beanClassName));
+        } else {
+            Assert.notNull(invocationHandler, "invocationHandler must not be null in proxy dispatch mode");
+            // proxy模式：所有方法共用一个静态字段保存 InvocationHandler，class加载后写入
+            controllerBuilder = controllerBuilder.defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE, Ownership.STATIC)
+                    .initializer(new LoadedTypeInitializer.ForStaticField(HANDLER_FIELD, invocationHandler));
+        }
+        // 每个方法对应的 ApiEndpoint，织入的拦截链通过下标访问
+        controllerBuilder = controllerBuilder.defineField(ApiEndpoint.ENDPOINTS_FIELD, ApiEndpoint[].class, Visibility.PRIVATE, Ownership.STATIC);
+        // 多参数方法的参数容器及转移执行的调用，与controller一起加载
+        List<DynamicType> argumentsTypes = new ArrayList<>();
+        // 构建controller的methods
+        for (ApiEndpoint endpoint : endpoints) {
+            Method declaredMethod = endpoint.getMethod();
+            String methodName = declaredMethod.getName();
+            Parameter[] parameters = declaredMethod.getParameters();
+            String postMappingName = endpoint.getName();
+            // @PostMapping(value="xxx")，@IdempotentGet 方法为 @GetMapping(value="xxx")
+            List<AnnotationDescription> methodAnnotations = getMethodAnnotations(endpoint);
+            DynamicType.Builder.MethodDefinition.ParameterDefinition.Initial<Object> objectInitial = controllerBuilder.defineMethod(methodName, getReturnType(endpoint), Modifier.PUBLIC);
+            if (endpoint.isIdempotentGet() && parameters.length > 0) {
+                // GET：查询参数绑定到参数容器(model attribute)，参数上的约束注解照常校验
+                assertSimpleParameters(endpoint, parameters);
+                DynamicType.Unloaded<?> arguments = makeArguments(beanClassName, postMappingName, parameters);
+                argumentsTypes.add(arguments);
+                controllerBuilder = objectInitial.withParameter(arguments.getTypeDescription(), "arguments").annotateParameter(getQueryAnnotations(isConstrained(parameters)))
+                        .throwing(Throwable.class).intercept(getImplementation(endpoint, invocationHandler, arguments.getTypeDescription(), makeCall(beanClassName, endpoint, arguments, argumentsTypes))).annotateMethod(methodAnnotations);
+            } else if (parameters.length > 1) {
+                // 多参数：请求体整体解析为参数容器，调用时按参数顺序拆包
+                DynamicType.Unloaded<?> arguments = makeArguments(beanClassName, postMappingName, parameters);
+                argumentsTypes.add(arguments);
+                controllerBuilder = objectInitial.withParameter(arguments.getTypeDescription(), "arguments").annotateParameter(getBodyAnnotations(isConstrained(parameters)))
+                        .throwing(Throwable.class).intercept(getImplementation(endpoint, invocationHandler, arguments.getTypeDescription(), makeCall(beanClassName, endpoint, arguments, argumentsTypes))).annotateMethod(methodAnnotations);
+            } else if (ArrayUtils.isNotEmpty(parameters)) {
+                // 单参数：请求体即参数
+                Parameter parameter = parameters[0];
+                controllerBuilder = objectInitial.withParameter(parameter.getType(), parameter.getName()).annotateParameter(getBodyAnnotations(ApiConstraints.isConstrained(parameter.getType())))
+                        .throwing(Throwable.class).intercept(getImplementation(endpoint, invocationHandler, null, makeCall(beanClassName, endpoint, null, argumentsTypes))).annotateMethod(methodAnnotations);
+            } else {
+                //无参处理
+                controllerBuilder = objectInitial.throwing(Throwable.class).intercept(getImplementation(endpoint, invocationHandler, null, makeCall(beanClassName, endpoint, null, argumentsTypes))).annotateMethod(methodAnnotations);
+            }
+        }
+        // 批量调用：按映射名称依次或并行调用以上方法
+        String batchMappingName = getBatchMappingName(interfaceClazz);
+        boolean reactive = target == ControllerTarget.REACTIVE;
+        TypeDescription.Generic batchResults = TypeDescription.Generic.Builder.parameterizedType(List.class, ApiBatchResult.class).build();
+        controllerBuilder = controllerBuilder.defineField(ApiBatchInvoker.INVOKER_FIELD, ApiBatchInvoker.class, Visibility.PRIVATE, Ownership.STATIC)
+                .defineMethod(BATCH_METHOD, reactive ? TypeDescription.Generic.Builder.parameterizedType(TypeDescription.ForLoadedType.of(Mono.class), batchResults).build() : batchResults, Modifier.PUBLIC)
+                .withParameter(TypeDescription.Generic.Builder.parameterizedType(List.class, ApiBatchCall.class).build(), "calls")
+                .annotateParameter(getRequestParamAnnotationDescription())
+                .intercept(MethodCall.invoke(reactive ? BATCH_INVOKE_REACTIVE : BATCH_INVOKE).onField(ApiBatchInvoker.INVOKER_FIELD).withThis().withArgument(0))
+                .annotateMethod(getPostMappingAnnotationDescription(batchMappingName), getApiOperationDescription(batchMappingName));
+        return controllerBuilder.make().include(argumentsTypes);
+    }
+
+    /**
+     * 构建参数容器：与参数同名的public字段、getter/setter，以及按参数顺序返回字段值的 toArray
+     */
+    private DynamicType.Unloaded<?> makeArguments(String beanClassName, String postMappingName, Parameter[] parameters) {
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .name(getControllerClassName(beanClassName).concat("_").concat(postMappingName).concat(ARGUMENTS_SUFFIX))
+                .implement(ApiArguments.class);
+        List<String> fieldNames = new ArrayList<>(parameters.length);
+        for (Parameter parameter : parameters) {
+            String fieldName = parameter.getName();
+            fieldNames.add(fieldName);
+            // 参数上的校验注解转移到字段，@Valid 级联校验对象参数
+            builder = builder.defineField(fieldName, parameter.getParameterizedType(), Visibility.PUBLIC)
+                    .annotateField(getFieldAnnotations(parameter))
+                    .defineMethod("get" + StringUtils.capitalize(fieldName), parameter.getParameterizedType(), Visibility.PUBLIC)
+                    .intercept(FieldAccessor.ofField(fieldName))
+                    // GET方法的查询参数通过setter绑定
+                    .defineMethod("set" + StringUtils.capitalize(fieldName), void.class, Visibility.PUBLIC)
+                    .withParameter(parameter.getParameterizedType(), fieldName)
+                    .intercept(FieldAccessor.ofField(fieldName));
+        }
+        return builder.method(named("toArray").and(isDeclaredBy(ApiArguments.class)))
+                .intercept(new ArgumentsToArray(fieldNames))
+                .make();
+    }
+
+    /**
+     * direct 模式下转移到线程池执行的方法，构建 {@link ApiCall}：构造器接收delegate及controller方法的参数，
+     * call() 生成 delegate.xxx(a, b) 或 delegate.xxx(arguments.getA(), arguments.getB()) 的invokeinterface调用，返回值装箱；
+     * 批量合并的方法构建 {@link ApiBulkCall}
+     *
+     * @param arguments 多参数方法的参数容器，其余为 null
+     * @return 调用的类型，不需要时为 null
+     */
+    private TypeDescription makeCall(String beanClassName, ApiEndpoint endpoint, DynamicType arguments, List<DynamicType> auxiliaryTypes) {
+        if (dispatchMode != DispatchMode.DIRECT || getOffload(endpoint) == Offload.NONE) {
+            return null;
+        }
+        if (endpoint.isMicroBatched()) {
+            return makeBulkCall(beanClassName, endpoint, auxiliaryTypes);
+        }
+        Method method = endpoint.getMethod();
+        List<TypeDefinition> parameterTypes = new ArrayList<>();
+        List<String> fieldNames = new ArrayList<>();
+        parameterTypes.add(TypeDescription.ForLoadedType.of(endpoint.getApiInterface()));
+        fieldNames.add(DELEGATE_FIELD);
+        if (arguments != null) {
+            parameterTypes.add(arguments.getTypeDescription());
+            fieldNames.add("arguments");
+        } else {
+            for (Parameter parameter : method.getParameters()) {
+                parameterTypes.add(TypeDefinition.Sort.describe(parameter.getParameterizedType()));
+                fieldNames.add("arg" + (fieldNames.size() - 1));
+            }
+        }
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .name(getControllerClassName(beanClassName).concat("_").concat(endpoint.getName()).concat(CALL_SUFFIX))
+                .implement(ApiCall.class);
+        Implementation.Composable constructor = MethodCall.invoke(OBJECT_CONSTRUCTOR);
+        for (int i = 0; i < fieldNames.size(); i++) {
+            builder = builder.defineField(fieldNames.get(i), parameterTypes.get(i), Visibility.PRIVATE, FieldManifestation.FINAL);
+            constructor = constructor.andThen(FieldAccessor.ofField(fieldNames.get(i)).setsArgumentAt(i));
+        }
+        MethodCall call = MethodCall.invoke(method).onField(DELEGATE_FIELD);
+        if (arguments != null) {
+            TypeDescription argumentsType = arguments.getTypeDescription();
+            for (Parameter parameter : method.getParameters()) {
+                MethodDescription getter = argumentsType.getDeclaredMethods().filter(named("get" + StringUtils.capitalize(parameter.getName()))).getOnly();
+                call = call.withMethodCall(MethodCall.invoke(getter).onField("arguments"));
+            }
+        } else {
+            call = call.withField(fieldNames.subList(1, fieldNames.size()).toArray(new String[0]));
+        }
+        DynamicType.Unloaded<?> callType = builder.defineConstructor(Visibility.PUBLIC)
+                .withParameters(parameterTypes)
+                .intercept(constructor)
+                .method(named("call").and(isDeclaredBy(ApiCall.class)))
+                .intercept(call.withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+                .make();
+        auxiliaryTypes.add(callType);
+        return callType.getTypeDescription();
+    }
+
+    /**
+     * direct 模式下批量合并的方法，构建 {@link ApiBulkCall}：构造器接收delegate，call(arguments) 生成 delegate.bulk(arguments) 的invokeinterface调用
+     *
+     * @return 调用的类型
+     */
+    private TypeDescription makeBulkCall(String beanClassName, ApiEndpoint endpoint, List<DynamicType> auxiliaryTypes) {
+        DynamicType.Unloaded<?> callType = new ByteBuddy()
+                .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .name(getControllerClassName(beanClassName).concat("_").concat(endpoint.getName()).concat(BULK_CALL_SUFFIX))
+                .implement(ApiBulkCall.class)
+                .defineField(DELEGATE_FIELD, endpoint.getApiInterface(), Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(endpoint.getApiInterface())
+                .intercept(MethodCall.invoke(OBJECT_CONSTRUCTOR).andThen(FieldAccessor.ofField(DELEGATE_FIELD).setsArgumentAt(0)))
+                .method(named("call").and(isDeclaredBy(ApiBulkCall.class)))
+                .intercept(MethodCall.invoke(endpoint.getBulkMethod()).onField(DELEGATE_FIELD).withArgument(0)
+                        .withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+                .make();
+        auxiliaryTypes.add(callType);
+        return callType.getTypeDescription();
+    }
+
+    private List<AnnotationDescription> getFieldAnnotations(Parameter parameter) {
+        List<AnnotationDescription> annotations = new ArrayList<>();
+        if (ApiConstraints.isCascadeConstrained(parameter.getParameterizedType())) {
+            annotations.add(AnnotationDescription.Builder.ofType(Valid.class).build());
+        }
+        for (Annotation annotation : parameter.getAnnotations()) {
+            Target target = annotation.annotationType().getAnnotation(Target.class);
+            if (target == null || ArrayUtils.contains(target.value(), ElementType.FIELD)) {
+                annotations.add(AnnotationDescription.ForLoadedAnnotation.of(annotation));
+            }
+        }
+        return annotations;
+    }
+
+    /**
+     * @return 调用在哪里执行：servlet下 blocking、micro batch 方法返回 CompletableFuture，webflux下所有同步方法返回 Mono
+     */
+    private Offload getOffload(ApiEndpoint endpoint) {
+        if (endpoint.isAsync()) {
+            return Offload.NONE;
+        }
+        if (target == ControllerTarget.REACTIVE) {
+            return Offload.MONO;
+        }
+        return endpoint.isOffloaded() ? Offload.FUTURE : Offload.NONE;
+    }
+
+    private TypeDefinition getReturnType(ApiEndpoint endpoint) {
+        Method method = endpoint.getMethod();
+        Offload offload = getOffload(endpoint);
+        if (offload == Offload.NONE) {
+            return TypeDefinition.Sort.describe(method.getGenericReturnType());
+        }
+        Type returnType = method.getReturnType() == void.class ? Void.class : method.getGenericReturnType();
+        if (returnType instanceof Class) {
+            returnType = ClassUtils.resolvePrimitiveIfNecessary((Class<?>) returnType);
+        }
+        return TypeDescription.Generic.Builder.parameterizedType(offload == Offload.MONO ? Mono.class : CompletableFuture.class, returnType).build();
+    }
+
+    /**
+     * @param call {@link #makeCall} 构建的调用，不需要时为 null
+     */
+    private Implementation getImplementation(ApiEndpoint endpoint, InvocationHandler invocationHandler, TypeDescription arguments, TypeDescription call) {
+        Implementation implementation;
+        Offload offload = getOffload(endpoint);
+        if (offload != Offload.NONE && endpoint.isMicroBatched()) {
+            // ApiMicroBatcher.submit(apiEndpoints, index, new XXXBulkCall(delegate), argument)，加入批量后返回
+            Method submit = offload == Offload.MONO
+                    ? (dispatchMode == DispatchMode.DIRECT ? REACTIVE_MICRO_BATCH_DIRECT : REACTIVE_MICRO_BATCH_PROXY)
+                    : (dispatchMode == DispatchMode.DIRECT ? MICRO_BATCH_DIRECT : MICRO_BATCH_PROXY);
+            MethodCall methodCall = MethodCall.invoke(submit).withField(ApiEndpoint.ENDPOINTS_FIELD).with(endpoint.getIndex());
+            methodCall = dispatchMode == DispatchMode.DIRECT
+                    ? methodCall.withMethodCall(MethodCall.construct(call.getDeclaredMethods().filter(isConstructor()).getOnly()).withField(DELEGATE_FIELD))
+                    : methodCall.withField(HANDLER_FIELD);
+            if (arguments != null) {
+                // @IdempotentGet 的参数容器，取出唯一的参数
+                String name = endpoint.getMethod().getParameters()[0].getName();
+                MethodDescription getter = arguments.getDeclaredMethods().filter(named("get" + StringUtils.capitalize(name))).getOnly();
+                implementation = methodCall.withMethodCall(MethodCall.invoke(getter).onArgument(0));
+            } else {
+                implementation = methodCall.withArgument(0);
+            }
+        } else if (call != null) {
+            // ApiOffload/ApiReactiveOffload.submit(apiEndpoints, index, new XXXCall(delegate, args...))
+            MethodDescription constructor = call.getDeclaredMethods().filter(isConstructor()).getOnly();
+            implementation = MethodCall.invoke(offload == Offload.MONO ? REACTIVE_OFFLOAD_DIRECT : OFFLOAD_DIRECT).withField(ApiEndpoint.ENDPOINTS_FIELD).with(endpoint.getIndex())
+                    .withMethodCall(MethodCall.construct(constructor).withField(DELEGATE_FIELD).withAllArguments());
+        } else if (offload != Offload.NONE) {
+            // ApiOffload.submit(apiEndpoints, index, invocationHandler, this, args)
+            implementation = MethodCall.invoke(offload == Offload.MONO ? REACTIVE_OFFLOAD_PROXY : OFFLOAD_PROXY).withField(ApiEndpoint.ENDPOINTS_FIELD).with(endpoint.getIndex()).withField(HANDLER_FIELD).withThis().withArgumentArray();
+        } else if (dispatchMode == DispatchMode.DIRECT && arguments != null) {
+            // delegate.xxx(arguments.getA(), arguments.getB())
+            MethodCall methodCall = MethodCall.invoke(endpoint.getMethod()).onField(DELEGATE_FIELD);
+            for (Parameter parameter : endpoint.getMethod().getParameters()) {
+                MethodDescription getter = arguments.getDeclaredMethods().filter(named("get" + StringUtils.capitalize(parameter.getName()))).getOnly();
+                methodCall = methodCall.withMethodCall(MethodCall.invoke(getter).onArgument(0));
+            }
+            implementation = methodCall;
+        } else if (dispatchMode == DispatchMode.DIRECT) {
+            // 直接生成 delegate.xxx(args) 的invokeinterface调用，无反射、无参数数组
+            implementation = MethodCall.invoke(endpoint.getMethod()).onField(DELEGATE_FIELD).withAllArguments();
+        } else {
+            implementation = InvocationHandlerAdapter.toField(HANDLER_FIELD);
+        }
+        if (!intercepted) {
+            return implementation;
+        }
+        // 织入拦截链，当前方法的下标以常量形式写入字节码
+        return Advice.withCustomMapping()
+                .bind(EndpointIndex.class, endpoint.getIndex())
+                .to(EndpointAdvice.class)
+                .wrap(implementation);
+    }
+
+    private static String getPostMappingName(String methodName, Parameter[] parameters) {
+        // 由于方法重载的问题，所以PostMapping value需要特殊处理，后缀增加参数类型评接方法名
+        return Arrays.stream(parameters).map(parameter -> parameter.getType().getSimpleName()).collect(Collectors.joining("_", methodName + "_", ""));
+    }
+
+    private AnnotationDescription getPostMappingAnnotationDescription(String name) {
+        return AnnotationDescription.Builder.ofType(PostMapping.class)
+                .defineArray(VALUE, name)
+                .defineArray("produces", PRODUCES)
+                .build();
+    }
+
+    private List<AnnotationDescription> getMethodAnnotations(ApiEndpoint endpoint) {
+        List<AnnotationDescription> annotations = new ArrayList<>(3);
+        if (endpoint.isIdempotentGet()) {
+            annotations.add(AnnotationDescription.Builder.ofType(GetMapping.class)
+                    .defineArray(VALUE, endpoint.getName())
+                    .defineArray("produces", PRODUCES)
+                    .build());
+            // 复制到controller方法，输出响应时读取 Cache-Control
+            annotations.add(AnnotationDescription.ForLoadedAnnotation.of(endpoint.getIdempotentGet()));
+        } else {
+            annotations.add(getPostMappingAnnotationDescription(endpoint.getName()));
+        }
+        annotations.add(getApiOperationDescription(endpoint.getName()));
+        return annotations;
+    }
+
+    private static void assertSimpleParameters(ApiEndpoint endpoint, Parameter[] parameters) {
+        for (Parameter parameter : parameters) {
+            Assert.isTrue(BeanUtils.isSimpleProperty(parameter.getType()), () -> String.format(
+                    "@IdempotentGet %s only supports simple parameters bound from the query string, %s is %s", endpoint, parameter.getName(), parameter.getType().getName()));
+        }
+    }
+
+    /**
+     * 查询参数：以 model attribute 绑定到参数容器，存在约束时织入 @Validated
+     */
+    private List<AnnotationDescription> getQueryAnnotations(boolean validated) {
+        List<AnnotationDescription> annotations = new ArrayList<>(2);
+        annotations.add(AnnotationDescription.Builder.ofType(ModelAttribute.class).build());
+        if (validated) {
+            annotations.add(getValidatedDescription());
+        }
+        return annotations;
+    }
+
+    private AnnotationDescription getRequestParamAnnotationDescription() {
+        return AnnotationDescription.Builder.ofType(RequestBody.class)
+                .build();
+    }
+
+    /**
+     * 多参数时参数上的约束注解会转移到参数容器的字段
+     */
+    private static boolean isConstrained(Parameter[] parameters) {
+        for (Parameter parameter : parameters) {
+            if (ApiConstraints.hasConstraint(parameter.getAnnotations()) || ApiConstraints.isCascadeConstrained(parameter.getParameterizedType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 请求体参数：只有存在约束时才织入 @Validated，否则每次请求都要经过validator的元数据查找
+     */
+    private List<AnnotationDescription> getBodyAnnotations(boolean validated) {
+        List<AnnotationDescription> annotations = new ArrayList<>(2);
+        annotations.add(getRequestParamAnnotationDescription());
+        if (validated) {
+            annotations.add(getValidatedDescription());
+        }
+        return annotations;
+    }
+
+    private AnnotationDescription getValidatedDescription() {
+        return AnnotationDescription.Builder.ofType(Validated.class)
+                .build();
+    }
+
+    private AnnotationDescription getAutowiredDescription() {
+        return AnnotationDescription.Builder.ofType(Autowired.class)
+                .build();
+    }
+
+    private AnnotationDescription getQualifierDescription(String beanName) {
+        return AnnotationDescription.Builder.ofType(Qualifier.class)
+                .define(VALUE, beanName)
+                .build();
+    }
+
+    private DynamicType.Builder<Object> builderController(String beanClassName) {
+        // @Api(tags="xxx")
+        AnnotationDescription apiOperationDesc = getApiAnnotationDescription();
+        // @RestController("/")
+        AnnotationDescription restControllerDesc = getRestControllerAnnotationDescription();
+        return new ByteBuddy()
+                // 继承父类
+                .subclass(Object.class)
+                // 指定controller类名
+                .name(getControllerClassName(beanClassName))
+                // 添加 @Controller, @Api 注解
+                .annotateType(restControllerDesc, apiOperationDesc);
+    }
+
+    private AnnotationDescription getRestControllerAnnotationDescription() {
+        return AnnotationDescription.Builder.ofType(RestController.class)
+                .define(VALUE, "/")
+                .build();
+    }
+
+    private AnnotationDescription getApiAnnotationDescription() {
+        return AnnotationDescription.Builder.ofType(Api.class).build();
+    }
+
+    private AnnotationDescription getApiOperationDescription(String postMappingName) {
+        return AnnotationDescription.Builder.ofType(ApiOperation.class)
+                .define(VALUE, postMappingName)
+                .build();
+    }
+
+    /**
+     * 同步方法的执行位置
+     */
+    private enum Offload {
+
+        /**
+         * 在调用线程中执行
+         */
+        NONE,
+
+        /**
+         * 在API的 blocking 线程池中执行或加入批量，返回 CompletableFuture
+         */
+        FUTURE,
+
+        /**
+         * 在 boundedElastic 或API的 blocking 线程池中执行，返回 Mono
+         */
+        MONO
+
+    }
+
+    /**
+     * 生成 toArray：new Object[]{this.a, this.b}，基本类型装箱
+     */
+    private static class ArgumentsToArray implements Implementation {
+
+        private final List<String> fieldNames;
+
+        ArgumentsToArray(List<String> fieldNames) {
+            this.fieldNames = fieldNames;
+        }
+
+        @Override
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType;
+        }
+
+        @Override
+        public ByteCodeAppender appender(Target implementationTarget) {
+            TypeDescription instrumentedType = implementationTarget.getInstrumentedType();
+            List<StackManipulation> values = new ArrayList<>(fieldNames.size());
+            for (String fieldName : fieldNames) {
+                FieldDescription field = instrumentedType.getDeclaredFields().filter(named(fieldName)).getOnly();
+                values.add(new StackManipulation.Compound(
+                        MethodVariableAccess.loadThis(),
+                        FieldAccess.forField(field).read(),
+                        Assigner.DEFAULT.assign(field.getType(), TypeDescription.Generic.OBJECT, Assigner.Typing.STATIC)));
+            }
+            return new ByteCodeAppender.Simple(
+                    ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(values),
+                    MethodReturn.REFERENCE);
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+
+/**
+ * Description: 扫描得到的 XXXAPIImpl 及其 XXXAPI 接口
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 15:40
+ *
+ * @author coderLee23
+ */
+public class ApiDefinition {
+
+    private final BeanDefinition beanDefinition;
+
+    private final String beanName;
+
+    private final String interfaceClassName;
+
+    public ApiDefinition(BeanDefinition beanDefinition, String beanName, String interfaceClassName) {
+        this.beanDefinition = beanDefinition;
+        this.beanName = beanName;
+        this.interfaceClassName = interfaceClassName;
+    }
+
+    public BeanDefinition getBeanDefinition() {
+        return beanDefinition;
+    }
+
+    /**
+     * @return XXXAPIImpl 注册到spring中的 beanName(类的simpleName)
+     */
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public String getImplClassName() {
+        return beanDefinition.getBeanClassName();
+    }
+
+    /**
+     * @return XXXAPI 接口全类名，不存在时为 null
+     */
+    public String getInterfaceClassName() {
+        return interfaceClassName;
+    }
+
+    @Override
+    public String toString() {
+        return getImplClassName() + " -> " + interfaceClassName;
+    }
+
+}
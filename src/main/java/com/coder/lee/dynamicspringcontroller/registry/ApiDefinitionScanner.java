@@ -0,0 +1,253 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Description: 扫描 XXXAPIImpl 及其对应的 XXXAPI 接口，运行时注册与构建期(AOT)预生成共用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 14:30
+ *
+ * 优先读取构建期生成的 {@link #INDEX_LOCATION} 索引，索引记录了构建时扫描的包，只有被索引覆盖的包不再扫描，
+ * 其余的包(如来自没有索引的jar)回退为类路径扫描；扫描时所有包共用一个带缓存的 MetadataReaderFactory，接口信息直接取自扫描得到的元数据。
+ *
+ * @author coderLee23
+ */
+public class ApiDefinitionScanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiDefinitionScanner.class);
+
+    // 由于BeanDefinitionRegistryPostProcessor中无法使用@Value注入(spring初始化顺序有关)，采用自己读取
+    // 支持逗号分隔配置多个包
+    public static final String API_SCAN_PATH = "api.scan.path";
+
+    public static final String API_SCAN_INDEX_ENABLED = "api.scan.index.enabled";
+
+    public static final String DEFAULT_PROPERTIES = "application.properties";
+
+    /**
+     * XXXAPIImpl 全类名 = XXXAPI 全类名(无接口时为空)，类似 META-INF/spring.components
+     */
+    public static final String INDEX_LOCATION = "META-INF/dynamic-api/api.components";
+
+    /**
+     * 索引中记录构建时扫描的包的key，不是类名，不会与 XXXAPIImpl 冲突；没有此项的索引不覆盖任何包
+     */
+    private static final String INDEX_PACKAGES = "packages";
+
+    private static final String IMPL_SUFFIX = "Impl";
+
+    private static final String API_IMPL_SUFFIX = "API" + IMPL_SUFFIX;
+
+    private final ClassLoader classLoader;
+
+    public ApiDefinitionScanner(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    public Properties getProperties() {
+        Properties props = new Properties();
+        //获取Properies对象的流对象
+        try (InputStream inputStream = classLoader.getResourceAsStream(DEFAULT_PROPERTIES)) {
+            props.load(inputStream);
+        } catch (IOException e) {
+            LOGGER.error("读取默认配置文件失败！", e);
+        }
+        return props;
+    }
+
+    /**
+     * 获取配置包路径下的API定义，被索引覆盖的包只读索引，其余的包扫描类路径
+     */
+    public List<ApiDefinition> getApiDefinitions(Properties properties) {
+        String[] basePackages = getBasePackages(properties);
+        List<ApiIndex> indexes = "false".equalsIgnoreCase(properties.getProperty(API_SCAN_INDEX_ENABLED, "true").trim())
+                ? Collections.emptyList() : readIndexes();
+        Map<String, ApiDefinition> definitions = new LinkedHashMap<>();
+        List<String> unindexed = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            // 子包的索引(如另一个jar只索引了 basePackage.xxx)同样读取，但只有覆盖整个包的索引才能跳过扫描
+            indexes.stream().filter(index -> index.covers(basePackage) || index.within(basePackage))
+                    .forEach(index -> index.read(basePackage, definitions));
+            if (indexes.stream().noneMatch(index -> index.covers(basePackage))) {
+                unindexed.add(basePackage);
+            }
+        }
+        if (unindexed.size() < basePackages.length) {
+            LOGGER.info("load {} api definitions from {}", definitions.size(), INDEX_LOCATION);
+        }
+        if (!unindexed.isEmpty()) {
+            LOGGER.info("packages {} are not covered by {}, scan classpath", unindexed, INDEX_LOCATION);
+            scan(unindexed.toArray(new String[0])).forEach(definition -> definitions.putIfAbsent(definition.getImplClassName(), definition));
+        }
+        return new ArrayList<>(definitions.values());
+    }
+
+    public String[] getBasePackages(Properties properties) {
+        String apiPath = properties.getProperty(API_SCAN_PATH);
+        Assert.hasText(apiPath, String.format("%s must be configured in %s", API_SCAN_PATH, DEFAULT_PROPERTIES));
+        return StringUtils.tokenizeToStringArray(apiPath, ",; \t\n");
+    }
+
+    /**
+     * 类路径扫描，多个包共用一个带缓存的 MetadataReaderFactory
+     */
+    public List<ApiDefinition> scan(String[] basePackages) {
+        DefaultResourceLoader resourceLoader = new DefaultResourceLoader(classLoader);
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(
+                false);
+        provider.setResourceLoader(resourceLoader);
+        provider.setMetadataReaderFactory(new CachingMetadataReaderFactory(resourceLoader));
+        provider.addIncludeFilter((metadataReader, metadataReaderFactory) -> metadataReader.getClassMetadata().getClassName().endsWith(API_IMPL_SUFFIX));
+        Map<String, ApiDefinition> definitions = new LinkedHashMap<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition beanDefinition : provider.findCandidateComponents(basePackage)) {
+                // 扫描得到的元数据中已包含接口信息，无需重新读取class文件
+                String[] interfaceNames = ((AnnotatedBeanDefinition) beanDefinition).getMetadata().getInterfaceNames();
+                definitions.putIfAbsent(beanDefinition.getBeanClassName(), new ApiDefinition(beanDefinition,
+                        getBeanSimpleCLassName(beanDefinition), getInterfaceClass(beanDefinition.getBeanClassName(), interfaceNames)));
+            }
+        }
+        provider.clearCache();
+        return new ArrayList<>(definitions.values());
+    }
+
+    /**
+     * @return 类路径中的所有索引，读取失败时忽略该索引
+     */
+    private List<ApiIndex> readIndexes() {
+        List<ApiIndex> indexes = new ArrayList<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try {
+                    indexes.add(new ApiIndex(PropertiesLoaderUtils.loadProperties(new UrlResource(url))));
+                } catch (IOException e) {
+                    LOGGER.error("读取api索引 {} 失败，其覆盖的包回退为类路径扫描！", url, e);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("读取api索引失败，回退为类路径扫描！", e);
+        }
+        return indexes;
+    }
+
+    /**
+     * 将API定义及构建时扫描的包写入索引，构建期调用
+     */
+    public static void writeIndex(File outputDirectory, String[] basePackages, List<ApiDefinition> definitions) throws IOException {
+        Properties index = new Properties();
+        index.setProperty(INDEX_PACKAGES, String.join(",", basePackages));
+        definitions.stream().sorted(Comparator.comparing(ApiDefinition::getImplClassName))
+                .forEach(definition -> index.setProperty(definition.getImplClassName(),
+                        definition.getInterfaceClassName() == null ? "" : definition.getInterfaceClassName()));
+        File file = new File(outputDirectory, INDEX_LOCATION);
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+            throw new IOException("cannot create directory " + file.getParentFile());
+        }
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            index.store(outputStream, "generated by ApiControllerAotGenerator, do not edit");
+        }
+    }
+
+    private boolean inPackages(String className, String[] basePackages) {
+        return Arrays.stream(basePackages).anyMatch(basePackage -> className.startsWith(basePackage + "."));
+    }
+
+    private String getInterfaceClass(String beanClassName, String[] interfaceNames) {
+        String beanClassNameSuffix = beanClassName.substring(beanClassName.lastIndexOf(".") + 1);
+        return Arrays.stream(interfaceNames).filter(interfaceName -> interfaceName.substring(interfaceName.lastIndexOf(".") + 1).concat(IMPL_SUFFIX).equals(beanClassNameSuffix)).findFirst().orElse(null);
+    }
+
+    public Class<?> getInterfaceClazz(String interfaceClass) {
+        try {
+            return classLoader.loadClass(interfaceClass);
+        } catch (ClassNotFoundException e) {
+            LOGGER.error("ClassNotFoundException error ", e);
+        }
+        return null;
+    }
+
+    public static String getBeanSimpleCLassName(BeanDefinition beanDefinition) {
+        String beanClassName = beanDefinition.getBeanClassName();
+        Assert.hasText(beanClassName, "beanClassName must not be null or empty");
+        beanClassName = beanClassName.substring(beanClassName.lastIndexOf(".") + 1);
+        return beanClassName;
+    }
+
+    /**
+     * 一个jar或目录中的索引
+     */
+    private class ApiIndex {
+
+        private final Properties entries;
+
+        private final String[] packages;
+
+        ApiIndex(Properties entries) {
+            this.entries = entries;
+            this.packages = StringUtils.tokenizeToStringArray(entries.getProperty(INDEX_PACKAGES, ""), ",");
+        }
+
+        /**
+         * @return 构建时是否扫描过该包，即该包在此jar或目录中的API都已在索引中
+         */
+        boolean covers(String basePackage) {
+            return Arrays.stream(packages).anyMatch(indexed -> basePackage.equals(indexed) || basePackage.startsWith(indexed + "."));
+        }
+
+        /**
+         * @return 构建时扫描的包中是否有该包的子包
+         */
+        boolean within(String basePackage) {
+            return Arrays.stream(packages).anyMatch(indexed -> indexed.startsWith(basePackage + "."));
+        }
+
+        void read(String basePackage, Map<String, ApiDefinition> definitions) {
+            for (String implClassName : entries.stringPropertyNames()) {
+                if (INDEX_PACKAGES.equals(implClassName) || !inPackages(implClassName, new String[]{basePackage})) {
+                    continue;
+                }
+                if (!ClassUtils.isPresent(implClassName, classLoader)) {
+                    LOGGER.warn("indexed api {} not found in classpath, ignored", implClassName);
+                    continue;
+                }
+                BeanDefinition beanDefinition = BeanDefinitionBuilder.genericBeanDefinition(implClassName).getBeanDefinition();
+                String interfaceClassName = entries.getProperty(implClassName);
+                definitions.putIfAbsent(implClassName, new ApiDefinition(beanDefinition, getBeanSimpleCLassName(beanDefinition),
+                        StringUtils.hasText(interfaceClassName) ? interfaceClassName : null));
+            }
+        }
+
+    }
+
+}
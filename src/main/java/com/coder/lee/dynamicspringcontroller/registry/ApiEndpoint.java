@@ -0,0 +1,225 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.annotation.Blocking;
+import com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet;
+import com.coder.lee.dynamicspringcontroller.async.ApiMicroBatcher;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.annotation.AnnotationUtils;
+import reactor.core.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Description: generated controller中一个方法(endpoint)的元数据及其绑定的拦截链
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 10:05
+ *
+ * @author coderLee23
+ */
+public class ApiEndpoint {
+
+    /**
+     * generated controller 中保存 ApiEndpoint[] 的静态字段名
+     */
+    public static final String ENDPOINTS_FIELD = "apiEndpoints";
+
+    private static final EndpointInterceptor[] NO_INTERCEPTORS = new EndpointInterceptor[0];
+
+    private final int index;
+
+    private final String name;
+
+    private final Class<?> apiInterface;
+
+    private final Method method;
+
+    private final String beanName;
+
+    /**
+     * 方法或接口上的 {@link Blocking}，非blocking方法为 null
+     */
+    private final Blocking blocking;
+
+    /**
+     * {@link com.coder.lee.dynamicspringcontroller.annotation.MicroBatch} 方法对应的批量方法，否则为 null
+     */
+    private final Method bulkMethod;
+
+    /**
+     * 方法上的 {@link IdempotentGet}，以POST映射的方法为 null
+     */
+    private final IdempotentGet idempotentGet;
+
+    private volatile EndpointInterceptor[] interceptors = NO_INTERCEPTORS;
+
+    /**
+     * blocking方法所属API的线程池
+     */
+    private volatile Executor executor;
+
+    /**
+     * 包装 executor 的 Scheduler，响应式controller中blocking方法在其上执行
+     */
+    private volatile Scheduler scheduler;
+
+    /**
+     * 合并并发调用的批量调用器
+     */
+    private volatile ApiMicroBatcher microBatcher;
+
+    public ApiEndpoint(int index, String name, Class<?> apiInterface, Method method, String beanName) {
+        this.index = index;
+        this.name = name;
+        this.apiInterface = apiInterface;
+        this.method = method;
+        this.beanName = beanName;
+        this.blocking = getBlocking(apiInterface, method);
+        this.bulkMethod = ApiMicroBatcher.findBulkMethod(apiInterface, method);
+        this.idempotentGet = AnnotationUtils.findAnnotation(method, IdempotentGet.class);
+    }
+
+    private static Blocking getBlocking(Class<?> apiInterface, Method method) {
+        if (isAsync(method)) {
+            // 已是异步方法
+            return null;
+        }
+        Blocking blocking = AnnotationUtils.findAnnotation(method, Blocking.class);
+        return blocking != null ? blocking : AnnotationUtils.findAnnotation(apiInterface, Blocking.class);
+    }
+
+    /**
+     * 绑定拦截链，在spring单例初始化完成后调用一次，只保留适用于该endpoint的拦截器
+     */
+    public void bind(List<EndpointInterceptor> chain) {
+        List<EndpointInterceptor> applicable = new ArrayList<>(chain.size());
+        for (EndpointInterceptor interceptor : chain) {
+            if (interceptor.supports(this)) {
+                interceptor.bind(this);
+                applicable.add(interceptor);
+            }
+        }
+        this.interceptors = applicable.toArray(NO_INTERCEPTORS);
+    }
+
+    /**
+     * 解绑拦截链，endpoint被热替换或移除时调用
+     */
+    public void unbind() {
+        EndpointInterceptor[] chain = this.interceptors;
+        this.interceptors = NO_INTERCEPTORS;
+        for (EndpointInterceptor interceptor : chain) {
+            interceptor.unbind(this);
+        }
+    }
+
+    /**
+     * @return 在 controller apiEndpoints 中的下标
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return 映射名称，如 say_String
+     */
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getApiInterface() {
+        return apiInterface;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public EndpointInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+
+    private static boolean isAsync(Method method) {
+        return CompletionStage.class.isAssignableFrom(method.getReturnType()) || Publisher.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * @return 是否返回 CompletionStage 或 Publisher
+     */
+    public boolean isAsync() {
+        return isAsync(method);
+    }
+
+    public boolean isBlocking() {
+        return blocking != null;
+    }
+
+    public Blocking getBlocking() {
+        return blocking;
+    }
+
+    public boolean isMicroBatched() {
+        return bulkMethod != null;
+    }
+
+    public Method getBulkMethod() {
+        return bulkMethod;
+    }
+
+    /**
+     * @return 同步方法是否转移到其他线程执行(@Blocking、@MicroBatch)，servlet下controller返回 CompletableFuture
+     */
+    public boolean isOffloaded() {
+        return isBlocking() || isMicroBatched();
+    }
+
+    /**
+     * @return 是否以GET映射，参数从查询字符串绑定
+     */
+    public boolean isIdempotentGet() {
+        return idempotentGet != null;
+    }
+
+    public IdempotentGet getIdempotentGet() {
+        return idempotentGet;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public ApiMicroBatcher getMicroBatcher() {
+        return microBatcher;
+    }
+
+    public void setMicroBatcher(ApiMicroBatcher microBatcher) {
+        this.microBatcher = microBatcher;
+    }
+
+    @Override
+    public String toString() {
+        return apiInterface.getSimpleName() + "#" + name;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Description: 启动时API controller生成耗时的actuator endpoint
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 02:00
+ *
+ * <pre>
+ * GET /actuator/apistartup    总耗时、各阶段耗时及次数、各API耗时(按总耗时倒序)
+ * </pre>
+ *
+ * @author coderLee23
+ */
+@Endpoint(id = "apistartup")
+public class ApiStartupEndpoint {
+
+    private final ApiStartupReport startupReport;
+
+    public ApiStartupEndpoint(ApiStartupReport startupReport) {
+        this.startupReport = startupReport;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        return startupReport.toMap();
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Description: 启动时API controller生成的各阶段耗时，按阶段及按API统计
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 02:00
+ *
+ * 并行构建controller时 MAKE 阶段在多个线程中记录，各阶段耗时为各API耗时之和，不是墙钟时间。
+ *
+ * @author coderLee23
+ */
+public class ApiStartupReport {
+
+    /**
+     * 日志摘要中列出的最慢API数
+     */
+    private static final int SLOWEST_LIMIT = 5;
+
+    public enum Phase {
+        /**
+         * 读取 application.properties
+         */
+        PROPERTIES,
+        /**
+         * 类路径扫描或读取API索引
+         */
+        SCAN,
+        /**
+         * 加载API接口并解析endpoint
+         */
+        INTERFACE_RESOLUTION,
+        /**
+         * proxy模式下提前通过 getBean 实例化 XXXAPIImpl
+         */
+        BEAN_INSTANTIATION,
+        /**
+         * ByteBuddy 构建controller
+         */
+        MAKE,
+        /**
+         * 输出生成的class文件
+         */
+        SAVE_IN,
+        /**
+         * 加载生成的或预生成的controller class
+         */
+        CLASS_LOADING,
+        /**
+         * 注册 XXXAPIImpl 及controller的 BeanDefinition
+         */
+        REGISTRATION
+    }
+
+    private final Map<Phase, PhaseStats> phases = new EnumMap<>(Phase.class);
+
+    private final Map<String, Map<Phase, Long>> apis = new ConcurrentHashMap<>();
+
+    private volatile long totalNanos;
+
+    private volatile int generated;
+
+    private volatile int prebuilt;
+
+    public ApiStartupReport() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new PhaseStats());
+        }
+    }
+
+    /**
+     * @param api XXXAPIImpl 的beanName，不属于某个API的阶段为 null
+     */
+    public void record(Phase phase, String api, long nanos) {
+        PhaseStats stats = phases.get(phase);
+        stats.count.increment();
+        stats.nanos.add(nanos);
+        if (api != null) {
+            apis.computeIfAbsent(api, key -> new ConcurrentHashMap<>()).merge(phase, nanos, Long::sum);
+        }
+    }
+
+    public void finish(long totalNanos, int generated, int prebuilt) {
+        this.totalNanos = totalNanos;
+        this.generated = generated;
+        this.prebuilt = prebuilt;
+    }
+
+    /**
+     * @return actuator 输出的报告，API按总耗时倒序
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalMillis", millis(totalNanos));
+        result.put("apiCount", apis.size());
+        result.put("generated", generated);
+        result.put("prebuilt", prebuilt);
+        Map<String, Object> phaseMap = new LinkedHashMap<>();
+        phases.forEach((phase, stats) -> {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("count", stats.count.sum());
+            item.put("millis", millis(stats.nanos.sum()));
+            phaseMap.put(phase.name(), item);
+        });
+        result.put("phases", phaseMap);
+        List<Map<String, Object>> apiList = new ArrayList<>(apis.size());
+        for (Map.Entry<String, Map<Phase, Long>> entry : slowest(apis.size())) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", entry.getKey());
+            item.put("totalMillis", millis(sum(entry.getValue())));
+            Map<String, Object> apiPhases = new LinkedHashMap<>();
+            new EnumMap<>(entry.getValue()).forEach((phase, nanos) -> apiPhases.put(phase.name(), millis(nanos)));
+            item.put("phases", apiPhases);
+            apiList.add(item);
+        }
+        result.put("apis", apiList);
+        return result;
+    }
+
+    /**
+     * @return 一行摘要：总耗时、各阶段耗时(次数)及最慢的API
+     */
+    public String summary() {
+        String phaseSummary = phases.entrySet().stream()
+                .filter(entry -> entry.getValue().count.sum() > 0)
+                .map(entry -> String.format("%s=%.1fms(%d)", entry.getKey(), millis(entry.getValue().nanos.sum()), entry.getValue().count.sum()))
+                .collect(Collectors.joining(", "));
+        String slowestSummary = slowest(SLOWEST_LIMIT).stream()
+                .map(entry -> String.format("%s=%.1fms", entry.getKey(), millis(sum(entry.getValue()))))
+                .collect(Collectors.joining(", "));
+        return String.format("%d apis (generated %d, prebuilt %d) in %.1fms: %s; slowest: %s",
+                apis.size(), generated, prebuilt, millis(totalNanos), phaseSummary, slowestSummary);
+    }
+
+    private List<Map.Entry<String, Map<Phase, Long>>> slowest(int limit) {
+        return apis.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Map<Phase, Long>> entry) -> sum(entry.getValue())).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static long sum(Map<Phase, Long> apiPhases) {
+        return apiPhases.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static double millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0;
+    }
+
+    private static class PhaseStats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+    }
+
+}
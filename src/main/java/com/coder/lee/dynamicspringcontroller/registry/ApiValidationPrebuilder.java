@@ -0,0 +1,61 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Validator;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: 启动时为generated controller中需要校验的参数类型构建validator元数据，避免首个请求时才解析约束
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 00:10
+ *
+ * 只处理织入了 @Validated 的参数(见 {@link ApiConstraints})，@Valid 级联到的类型一并构建。
+ *
+ * @author coderLee23
+ */
+public class ApiValidationPrebuilder implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiValidationPrebuilder.class);
+
+    private final ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    private final Validator validator;
+
+    public ApiValidationPrebuilder(ApiBeanDefinitionRegistryPostProcessor postProcessor, Validator validator) {
+        this.postProcessor = postProcessor;
+        this.validator = validator;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        Set<Class<?>> types = new LinkedHashSet<>();
+        int validated = 0;
+        int parameters = 0;
+        for (Class<?> controllerClazz : postProcessor.getControllerClasses()) {
+            for (Method method : ApiControllerGenerator.getControllerMethods(controllerClazz).values()) {
+                for (Parameter parameter : method.getParameters()) {
+                    parameters++;
+                    if (parameter.isAnnotationPresent(Validated.class)) {
+                        validated++;
+                        types.addAll(ApiConstraints.getConstrainedTypes(parameter.getParameterizedType()));
+                    }
+                }
+            }
+        }
+        // hibernate validator 按class缓存元数据
+        types.forEach(validator::getConstraintsForClass);
+        LOGGER.info("{} of {} controller parameters are validated, prebuilt validation metadata of {} types in {} ms", validated, parameters, types.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Description: generated controller运行的web技术栈
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 20:10
+ *
+ * @author coderLee23
+ */
+public enum ControllerTarget {
+
+    /**
+     * spring mvc，同步方法在servlet线程中执行
+     */
+    SERVLET,
+
+    /**
+     * spring webflux，同步方法返回 Mono 并转移到 boundedElastic 或API的 blocking 线程池执行，不占用事件循环
+     */
+    REACTIVE;
+
+    public static final String WEB_APPLICATION_TYPE = "spring.main.web-application-type";
+
+    public static ControllerTarget of(String webApplicationType) {
+        return webApplicationType != null && "reactive".equalsIgnoreCase(webApplicationType.trim()) ? REACTIVE : SERVLET;
+    }
+
+    public static ControllerTarget of(ApplicationContext applicationContext) {
+        return applicationContext instanceof ReactiveWebApplicationContext ? REACTIVE : SERVLET;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Description: 生成的controller调用XXXAPIImpl的方式
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 9:12
+ *
+ * @author coderLee23
+ */
+public enum DispatchMode {
+
+    /**
+     * controller持有API接口类型的字段，直接 invokeinterface 调用实现类，无反射
+     */
+    DIRECT,
+
+    /**
+     * 通过 InvocationHandler + 反射调用实现类
+     */
+    PROXY;
+
+    public static final String API_DISPATCH_MODE = "api.dispatch.mode";
+
+    public static DispatchMode of(String value) {
+        if (!StringUtils.hasText(value)) {
+            return DIRECT;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.coder.lee.dynamicspringcontroller.registry.aot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Description: 构建期预生成controller的索引，记录生成选项指纹、是否织入拦截链，以及每个 XXXAPIImpl 的controller类名和API接口签名
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 14:30
+ *
+ * @author coderLee23
+ */
+public class AotControllerIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AotControllerIndex.class);
+
+    public static final String LOCATION = "META-INF/dynamic-api/aot-controllers.properties";
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String INTERCEPTED = "intercepted";
+
+    private static final String CONTROLLER_PREFIX = "controller.";
+
+    private static final String SIGNATURE_PREFIX = "signature.";
+
+    private final Properties properties;
+
+    private AotControllerIndex(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return 索引，jar中不存在预生成controller时返回 null
+     */
+    public static AotControllerIndex load(ClassLoader classLoader) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(LOCATION)) {
+            if (inputStream == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            return new AotControllerIndex(properties);
+        } catch (IOException e) {
+            LOGGER.error("读取预生成controller索引失败！", e);
+            return null;
+        }
+    }
+
+    /**
+     * @param controllers XXXAPIImpl 的 beanName -> controller 类名
+     * @param signatures  XXXAPIImpl 的 beanName -> {@link com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator#signature(java.util.List)}
+     */
+    public static void write(File outputDirectory, String fingerprint, boolean intercepted, Map<String, String> controllers, Map<String, String> signatures) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT, fingerprint);
+        properties.setProperty(INTERCEPTED, String.valueOf(intercepted));
+        controllers.forEach((beanClassName, controllerClassName) -> properties.setProperty(CONTROLLER_PREFIX + beanClassName, controllerClassName));
+        signatures.forEach((beanClassName, signature) -> properties.setProperty(SIGNATURE_PREFIX + beanClassName, signature));
+        File file = new File(outputDirectory, LOCATION);
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+            throw new IOException("cannot create directory " + file.getParentFile());
+        }
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            properties.store(outputStream, "generated by ApiControllerAotGenerator, do not edit");
+        }
+    }
+
+    public String getFingerprint() {
+        return properties.getProperty(FINGERPRINT);
+    }
+
+    /**
+     * @return 预生成的controller是否织入了拦截链；织入时不论运行时是否存在拦截器都可使用
+     */
+    public boolean isIntercepted() {
+        return Boolean.parseBoolean(properties.getProperty(INTERCEPTED));
+    }
+
+    /**
+     * @param beanClassName XXXAPIImpl 的 beanName
+     * @return 构建期API接口的签名，未预生成返回 null
+     */
+    public String getSignature(String beanClassName) {
+        return properties.getProperty(SIGNATURE_PREFIX + beanClassName);
+    }
+
+    /**
+     * @param beanClassName XXXAPIImpl 的 beanName
+     * @return 预生成的controller类名，未预生成返回 null
+     */
+    public String getControllerClassName(String beanClassName) {
+        return properties.getProperty(CONTROLLER_PREFIX + beanClassName);
+    }
+
+    public int size() {
+        return (int) properties.stringPropertyNames().stream().filter(name -> name.startsWith(CONTROLLER_PREFIX)).count();
+    }
+
+}
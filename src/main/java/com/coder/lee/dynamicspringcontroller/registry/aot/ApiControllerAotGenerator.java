@@ -0,0 +1,80 @@
+package com.coder.lee.dynamicspringcontroller.registry.aot;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinition;
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinitionScanner;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import net.bytebuddy.dynamic.DynamicType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Description: 构建期(AOT)生成API索引及API controller，由 exec-maven-plugin 在 process-classes 阶段执行
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 14:30
+ *
+ * 生成的class与 {@link AotControllerIndex} 写入 target/classes 并打入jar，运行时指纹一致则直接注册，不再生成。
+ * 只支持 direct 调用模式；构建期无法知道运行时是否存在 EndpointInterceptor，因此总是织入拦截链(并记入指纹)，
+ * 运行时没有拦截器时拦截链为空，advice只判断一次空链即调用XXXAPIImpl，不创建调用上下文。
+ * 每个API记录接口签名，运行时接口与构建期不一致的API改为运行时生成。
+ *
+ * @author coderLee23
+ */
+public class ApiControllerAotGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiControllerAotGenerator.class);
+
+    private ApiControllerAotGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Assert.isTrue(args.length == 1, "usage: ApiControllerAotGenerator <outputDirectory>");
+        File outputDirectory = new File(args[0]);
+        ClassLoader classLoader = ApiControllerAotGenerator.class.getClassLoader();
+        ApiDefinitionScanner scanner = new ApiDefinitionScanner(classLoader);
+        Properties properties = scanner.getProperties();
+        // 构建期必须扫描类路径，并写出运行时使用的API索引
+        String[] basePackages = scanner.getBasePackages(properties);
+        List<ApiDefinition> scanList = scanner.scan(basePackages);
+        ApiDefinitionScanner.writeIndex(outputDirectory, basePackages, scanList);
+        LOGGER.info("indexed {} api definitions into {}", scanList.size(), ApiDefinitionScanner.INDEX_LOCATION);
+        DispatchMode dispatchMode = DispatchMode.of(properties.getProperty(DispatchMode.API_DISPATCH_MODE));
+        if (dispatchMode != DispatchMode.DIRECT) {
+            LOGGER.info("dispatch mode {} is not supported at build time, skip aot controller generation", dispatchMode);
+            return;
+        }
+        ControllerTarget target = ControllerTarget.of(properties.getProperty(ControllerTarget.WEB_APPLICATION_TYPE));
+        ApiControllerGenerator generator = new ApiControllerGenerator(dispatchMode, target, true);
+        Map<String, String> controllers = new TreeMap<>();
+        Map<String, String> signatures = new TreeMap<>();
+        for (ApiDefinition apiDefinition : scanList) {
+            String beanClassName = apiDefinition.getBeanName();
+            String interfaceClass = apiDefinition.getInterfaceClassName();
+            if (!StringUtils.hasText(interfaceClass)) {
+                continue;
+            }
+            Class<?> interfaceClazz = scanner.getInterfaceClazz(interfaceClass);
+            Assert.notNull(interfaceClazz, "interfaceClazz must not be null");
+            List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(interfaceClazz, beanClassName);
+            DynamicType.Unloaded<?> dynamicType = generator.make(beanClassName, endpoints, null);
+            dynamicType.saveIn(outputDirectory);
+            controllers.put(beanClassName, dynamicType.getTypeDescription().getName());
+            signatures.put(beanClassName, ApiControllerGenerator.signature(endpoints));
+        }
+        AotControllerIndex.write(outputDirectory, generator.fingerprint(), generator.isIntercepted(), controllers, signatures);
+        LOGGER.info("generated {} api controllers into {} ({})", controllers.size(), outputDirectory, generator.fingerprint());
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import com.alibaba.fastjson.parser.ParserConfig;
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import com.alibaba.fastjson.support.config.FastJsonConfig;
+import com.coder.lee.dynamicspringcontroller.registry.ApiConstraints;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.CachedIntrospectionResults;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.handler.HandlerExceptionResolverComposite;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.beans.Introspector;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Description: 清除框架中以Class为key的缓存里已退役的热注册API的类，使其类加载器可以被回收
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 10:20
+ *
+ * <pre>
+ * spring mvc      RequestMappingHandlerAdapter 的 initBinder/modelAttribute/sessionAttributes 缓存及参数解析器缓存，
+ *                 ExceptionHandlerExceptionResolver 的 exceptionHandler 缓存
+ * spring beans    创建实现类时 bean factory 及 BeanPostProcessor 以Class为key的缓存(如 MethodValidationPostProcessor 的 eligibleBeans)，
+ *                 以及 MergedBeanDefinitionPostProcessor 按beanName缓存的注入元数据
+ * spring core     与 AbstractApplicationContext#resetCommonCaches 相同：反射、注解、ResolvableType 缓存及该加载器的内省结果
+ * java beans      Introspector 的缓存(JDK 9+ 为 ClassInfo 的软引用缓存，System.gc() 不会清除)只能整体清空
+ * fastjson        ParserConfig/SerializeConfig(含全局实例)只能整体清空，清空后恢复内置的(反)序列化器，其余在下次使用时重建
+ * validator       hibernate validator 的 BeanMetaDataManager 及 ValueExtractorManager 只能整体清空，下次校验时重建
+ * </pre>
+ * 框架的这些缓存没有按类清除的公开方法，通过反射清除其中 ConcurrentMap 类型字段里该代的Class key；非并发的Map可能正被请求线程修改，不处理。
+ *
+ * @author coderLee23
+ */
+public class ApiClassCaches {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiClassCaches.class);
+
+    private static final String[] ADAPTER_RESOLVERS = {"argumentResolvers", "initBinderArgumentResolvers"};
+
+    private final AbstractBeanFactory beanFactory;
+
+    private final RequestMappingHandlerAdapter handlerAdapter;
+
+    private final List<ExceptionHandlerExceptionResolver> exceptionResolvers = new ArrayList<>();
+
+    private final FastJsonConfig fastJsonConfig;
+
+    private final Validator validator;
+
+    public ApiClassCaches(AbstractBeanFactory beanFactory, RequestMappingHandlerAdapter handlerAdapter, List<HandlerExceptionResolver> exceptionResolvers,
+                          FastJsonConfig fastJsonConfig, Validator validator) {
+        this.beanFactory = beanFactory;
+        this.handlerAdapter = handlerAdapter;
+        this.fastJsonConfig = fastJsonConfig;
+        this.validator = validator;
+        exceptionResolvers.forEach(this::addExceptionResolver);
+    }
+
+    private void addExceptionResolver(HandlerExceptionResolver resolver) {
+        if (resolver instanceof HandlerExceptionResolverComposite) {
+            ((HandlerExceptionResolverComposite) resolver).getExceptionResolvers().forEach(this::addExceptionResolver);
+        } else if (resolver instanceof ExceptionHandlerExceptionResolver) {
+            exceptionResolvers.add((ExceptionHandlerExceptionResolver) resolver);
+        }
+    }
+
+    /**
+     * 清除该加载器(及其子加载器)加载的类
+     *
+     * @param beanName 实现类以 createBean 创建时的beanName，即全类名
+     */
+    public void evict(ApiGenerationClassLoader classLoader, String beanName) {
+        evictClassKeys(beanFactory, classLoader);
+        for (BeanPostProcessor beanPostProcessor : beanFactory.getBeanPostProcessors()) {
+            evictClassKeys(beanPostProcessor, classLoader);
+            if (beanPostProcessor instanceof MergedBeanDefinitionPostProcessor) {
+                ((MergedBeanDefinitionPostProcessor) beanPostProcessor).resetBeanDefinition(beanName);
+            }
+        }
+        evictClassKeys(handlerAdapter, classLoader);
+        for (String name : ADAPTER_RESOLVERS) {
+            evictArgumentResolverCache(getField(handlerAdapter, name), classLoader);
+        }
+        for (ExceptionHandlerExceptionResolver exceptionResolver : exceptionResolvers) {
+            evictClassKeys(exceptionResolver, classLoader);
+            evictArgumentResolverCache(getField(exceptionResolver, "argumentResolvers"), classLoader);
+        }
+        ReflectionUtils.clearCache();
+        AnnotationUtils.clearCache();
+        ResolvableType.clearCache();
+        CachedIntrospectionResults.clearClassLoader(classLoader);
+        Introspector.flushCaches();
+        ApiConstraints.evict(classLoader::isLoaded);
+        clearFastJson();
+        clearValidatorMetadata();
+        LOGGER.info("evicted cached classes of {}", classLoader);
+    }
+
+    /**
+     * 清除对象(含父类)中 ConcurrentMap 字段里该加载器的Class key
+     */
+    private static void evictClassKeys(Object target, ApiGenerationClassLoader classLoader) {
+        ReflectionUtils.doWithFields(target.getClass(), field -> {
+            ReflectionUtils.makeAccessible(field);
+            Object cache = ReflectionUtils.getField(field, target);
+            if (cache instanceof ConcurrentMap) {
+                ((Map<?, ?>) cache).keySet().removeIf(key -> key instanceof Class && classLoader.isLoaded((Class<?>) key));
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers()) && Map.class.isAssignableFrom(field.getType()));
+    }
+
+    private static void evictArgumentResolverCache(Object composite, ApiGenerationClassLoader classLoader) {
+        if (composite == null) {
+            return;
+        }
+        Object cache = getField(composite, "argumentResolverCache");
+        if (cache instanceof Map) {
+            ((Map<?, ?>) cache).keySet().removeIf(key -> key instanceof MethodParameter && classLoader.isLoaded(((MethodParameter) key).getDeclaringClass()));
+        }
+    }
+
+    private void clearFastJson() {
+        Set<ParserConfig> parserConfigs = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<SerializeConfig> serializeConfigs = Collections.newSetFromMap(new IdentityHashMap<>());
+        parserConfigs.add(ParserConfig.getGlobalInstance());
+        serializeConfigs.add(SerializeConfig.getGlobalInstance());
+        if (fastJsonConfig != null) {
+            parserConfigs.add(fastJsonConfig.getParserConfig());
+            serializeConfigs.add(fastJsonConfig.getSerializeConfig());
+        }
+        parserConfigs.forEach(ParserConfig::clearDeserializers);
+        serializeConfigs.forEach(SerializeConfig::clearSerializers);
+    }
+
+    private void clearValidatorMetadata() {
+        if (validator == null) {
+            return;
+        }
+        ValidatorFactory validatorFactory;
+        try {
+            validatorFactory = validator.unwrap(ValidatorFactory.class);
+        } catch (ValidationException e) {
+            LOGGER.debug("validator {} is not backed by a ValidatorFactory, skip", validator);
+            return;
+        }
+        Object managers = getField(validatorFactory, "beanMetaDataManagers");
+        if (managers instanceof Map) {
+            for (Object manager : ((Map<?, ?>) managers).values()) {
+                if (manager instanceof BeanMetaDataManager) {
+                    ((BeanMetaDataManager) manager).clear();
+                }
+            }
+        }
+        // 校验器按运行时类型缓存的 ValueExtractor 候选(含非容器类型集合)
+        Object valueExtractorManager = getField(validator.unwrap(Validator.class), "valueExtractorManager");
+        if (valueExtractorManager instanceof ValueExtractorManager) {
+            ((ValueExtractorManager) valueExtractorManager).clear();
+        }
+    }
+
+    /**
+     * @return 私有字段的值，字段不存在(框架版本不同)时为 null
+     */
+    private static Object getField(Object target, String name) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            LOGGER.warn("{} has no field {}, cached classes in it are not evicted", target.getClass().getName(), name);
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, target);
+    }
+
+}
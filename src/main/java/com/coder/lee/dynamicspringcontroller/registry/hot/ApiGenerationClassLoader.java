@@ -0,0 +1,72 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Description: 热注册API的类加载器，每次注册一个
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/19 10:20
+ *
+ * 位置(目录或jar)中存在的类优先由本加载器加载，与应用类路径中的同名类互不影响；其余类(spring、java.*等)委托给父加载器。
+ * 位置中只应放置API的接口、实现类及其参数类型，不应包含框架类。
+ *
+ * @author coderLee23
+ */
+public class ApiGenerationClassLoader extends URLClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final int generation;
+
+    public ApiGenerationClassLoader(int generation, URL location, ClassLoader parent) {
+        super(new URL[]{location}, parent);
+        this.generation = generation;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (name.startsWith("java.")) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> clazz = findLoadedClass(name);
+            if (clazz == null) {
+                try {
+                    clazz = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    return super.loadClass(name, resolve);
+                }
+            }
+            if (resolve) {
+                resolveClass(clazz);
+            }
+            return clazz;
+        }
+    }
+
+    /**
+     * @return 类是否由本加载器或其子加载器(如生成的controller所在的加载器)加载
+     */
+    public boolean isLoaded(Class<?> clazz) {
+        for (ClassLoader classLoader = clazz.getClassLoader(); classLoader != null; classLoader = classLoader.getParent()) {
+            if (classLoader == this) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public String toString() {
+        return "ApiGenerationClassLoader[generation=" + generation + ", location=" + getURLs()[0] + "]";
+    }
+
+}
@@ -0,0 +1,255 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ControllerInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Description: 运行时注册、替换、移除 XXXAPIImpl，无需重启应用
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 16:30
+ *
+ * 每次注册(一代)的实现类从指定位置加载到独立的 {@link ApiGenerationClassLoader} 中，生成的controller加载在其之下；
+ * 被替换或移除后由 {@link ApiClassCaches} 清除框架中缓存的该代的类，该代的类加载器随之可被回收。
+ * 路由变更通过 {@link ApiRouteTable} 原子发布，正在处理的请求不受影响。
+ *
+ * @author coderLee23
+ */
+public class ApiHotRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiHotRegistry.class);
+
+    private static final ClassLoader CLASS_LOADER = ApiHotRegistry.class.getClassLoader();
+
+    private static final String IMPL_SUFFIX = "Impl";
+
+    private final AutowireCapableBeanFactory beanFactory;
+
+    private final ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    private final ApiRouteTable routeTable;
+
+    private final ApiClassCaches classCaches;
+
+    /**
+     * beanName -> 当前生效的热注册API
+     */
+    private final Map<String, HotApi> hotApis = new ConcurrentHashMap<>();
+
+    /**
+     * 已移除的启动期API
+     */
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger generations = new AtomicInteger();
+
+    public ApiHotRegistry(AutowireCapableBeanFactory beanFactory, ApiBeanDefinitionRegistryPostProcessor postProcessor, ApiRouteTable routeTable, ApiClassCaches classCaches) {
+        this.beanFactory = beanFactory;
+        this.postProcessor = postProcessor;
+        this.routeTable = routeTable;
+        this.classCaches = classCaches;
+    }
+
+    /**
+     * 从指定位置加载并注册一个新的 XXXAPIImpl，已存在同名API时替换；注册失败时已创建的bean随即销毁
+     *
+     * @param implClassName XXXAPIImpl 全类名
+     * @param location      实现类所在的目录或jar，每次注册在独立的 {@link ApiGenerationClassLoader} 中加载
+     * @return 生效的路由
+     */
+    public synchronized List<String> register(String implClassName, URL location) {
+        int generation = generations.incrementAndGet();
+        HotApi hotApi = new HotApi(generation, implClassName, new ApiGenerationClassLoader(generation, location, CLASS_LOADER));
+        Map<String, Object> handlers;
+        try {
+            handlers = make(hotApi);
+        } catch (RuntimeException | Error e) {
+            LOGGER.error("hot register {} generation {} from {} failed", implClassName, generation, location, e);
+            destroy(hotApi);
+            throw e;
+        }
+        String beanName = hotApi.beanName;
+        removed.remove(beanName);
+        HotApi previous = hotApis.put(beanName, hotApi);
+        if (previous != null) {
+            destroy(previous);
+        }
+        LOGGER.info("hot registered {} generation {} from {} with routes {}", implClassName, generation, location, handlers.keySet());
+        return hotApi.endpoints.stream().map(this::getPath).collect(Collectors.toList());
+    }
+
+    /**
+     * 创建实现类、生成controller并发布路由
+     *
+     * @return path -> handler
+     */
+    private Map<String, Object> make(HotApi hotApi) {
+        Class<?> implClass = ClassUtils.resolveClassName(hotApi.implClassName, hotApi.classLoader);
+        Assert.isTrue(hotApi.classLoader.isLoaded(implClass), () -> hotApi.implClassName + " is not found in " + hotApi.classLoader);
+        Class<?> interfaceClazz = getInterfaceClazz(implClass);
+        String beanName = implClass.getSimpleName();
+        hotApi.beanName = beanName;
+        // 实现类不注册为单例，由本类负责其生命周期
+        Object impl = beanFactory.createBean(implClass);
+        hotApi.impl = impl;
+        List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(interfaceClazz, beanName);
+        hotApi.endpoints = endpoints;
+        ApiControllerGenerator generator = postProcessor.getGenerator();
+        InvocationHandler invocationHandler = generator.getDispatchMode() == DispatchMode.PROXY ? new ControllerInterceptor(impl) : null;
+        // controller 加载在本次注册的类加载器之下，随其一起卸载
+        Class<?> controllerClazz = generator.make(beanName, endpoints, invocationHandler)
+                .load(hotApi.classLoader, ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        ApiControllerGenerator.bindApiEndpoints(controllerClazz, endpoints, postProcessor.getBatchExecutor());
+        postProcessor.getBlockingExecutors().bind(endpoints);
+        postProcessor.getMicroBatchers().bind(endpoints);
+        Object controller = BeanUtils.instantiateClass(controllerClazz);
+        if (generator.getDispatchMode() == DispatchMode.DIRECT) {
+            ApiControllerGenerator.setDelegate(controller, impl);
+        }
+        endpoints.forEach(endpoint -> endpoint.bind(postProcessor.getInterceptors()));
+        Map<String, Object> handlers = new LinkedHashMap<>();
+        ApiControllerGenerator.getControllerMethods(controllerClazz)
+                .forEach((name, method) -> handlers.put("/" + name, new HandlerMethod(controller, method)));
+        // 启动期API被移除后的占位路由一并覆盖
+        getStartupPaths(beanName).stream()
+                .filter(path -> !handlers.containsKey(path))
+                .forEach(path -> handlers.put(path, ApiRouteTable.REMOVED));
+        routeTable.publish(beanName, handlers);
+        return handlers;
+    }
+
+    /**
+     * 移除API，包括启动时注册的API
+     *
+     * @param beanName XXXAPIImpl 的 beanName(类的simpleName)
+     * @return 是否存在该API
+     */
+    public synchronized boolean unregister(String beanName) {
+        HotApi previous = hotApis.remove(beanName);
+        List<String> startupPaths = getStartupPaths(beanName);
+        if (startupPaths.isEmpty()) {
+            routeTable.remove(beanName);
+        } else {
+            // 启动期API的路由仍在 RequestMappingHandlerMapping 中，以占位路由屏蔽
+            routeTable.publish(beanName, startupPaths.stream()
+                    .collect(Collectors.toMap(path -> path, path -> ApiRouteTable.REMOVED, (a, b) -> a, LinkedHashMap::new)));
+            removed.add(beanName);
+        }
+        if (previous != null) {
+            destroy(previous);
+        }
+        LOGGER.info("hot unregistered {}", beanName);
+        return previous != null || !startupPaths.isEmpty();
+    }
+
+    /**
+     * @return API beanName -> 状态
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> apis = new TreeMap<>();
+        postProcessor.getApiEndpoints().stream()
+                .map(ApiEndpoint::getBeanName)
+                .distinct()
+                .forEach(beanName -> apis.put(beanName, removed.contains(beanName) ? "removed" : "startup"));
+        hotApis.forEach((beanName, hotApi) -> {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("implClass", hotApi.implClassName);
+            detail.put("generation", hotApi.generation);
+            detail.put("location", hotApi.classLoader.getURLs()[0].toString());
+            detail.put("routes", hotApi.endpoints.stream().map(this::getPath).collect(Collectors.toList()));
+            apis.put(beanName, detail);
+        });
+        return apis;
+    }
+
+    /**
+     * 解绑endpoint、销毁实现类，并清除框架中缓存的该代的类，之后该代的类加载器不再被引用
+     */
+    private void destroy(HotApi hotApi) {
+        hotApi.endpoints.forEach(ApiEndpoint::unbind);
+        if (hotApi.impl != null) {
+            beanFactory.destroyBean(hotApi.impl);
+        }
+        classCaches.evict(hotApi.classLoader, hotApi.implClassName);
+        try {
+            hotApi.classLoader.close();
+        } catch (IOException e) {
+            LOGGER.warn("close {} error", hotApi.classLoader, e);
+        }
+    }
+
+    /**
+     * @return 启动期注册的路由，包括批量调用路由
+     */
+    private List<String> getStartupPaths(String beanName) {
+        List<ApiEndpoint> endpoints = postProcessor.getApiEndpoints().stream()
+                .filter(endpoint -> endpoint.getBeanName().equals(beanName))
+                .collect(Collectors.toList());
+        List<String> paths = endpoints.stream().map(this::getPath).collect(Collectors.toList());
+        if (!endpoints.isEmpty()) {
+            paths.add("/" + ApiControllerGenerator.getBatchMappingName(endpoints.get(0).getApiInterface()));
+        }
+        return paths;
+    }
+
+    private Class<?> getInterfaceClazz(Class<?> implClass) {
+        String beanClassName = implClass.getSimpleName();
+        return Arrays.stream(implClass.getInterfaces())
+                .filter(interfaceClazz -> interfaceClazz.getSimpleName().concat(IMPL_SUFFIX).equals(beanClassName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(implClass.getName() + " does not implement " + beanClassName.substring(0, beanClassName.length() - IMPL_SUFFIX.length())));
+    }
+
+    private String getPath(ApiEndpoint endpoint) {
+        return "/" + endpoint.getName();
+    }
+
+    private static class HotApi {
+
+        private final int generation;
+
+        private final String implClassName;
+
+        private final ApiGenerationClassLoader classLoader;
+
+        private String beanName;
+
+        private Object impl;
+
+        private List<ApiEndpoint> endpoints = Collections.emptyList();
+
+        HotApi(int generation, String implClassName, ApiGenerationClassLoader classLoader) {
+            this.generation = generation;
+            this.implClassName = implClassName;
+            this.classLoader = classLoader;
+        }
+
+    }
+
+}
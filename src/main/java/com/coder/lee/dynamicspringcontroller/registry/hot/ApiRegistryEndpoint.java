@@ -0,0 +1,76 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.util.ResourceUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: API热注册actuator endpoint
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 16:30
+ *
+ * <pre>
+ * GET    /actuator/apiregistry                                                                  查看API及路由
+ * POST   /actuator/apiregistry {"implClass":"xxx.impl.XXXAPIImpl","location":"/opt/api/x.jar"}  从目录或jar注册或替换
+ * DELETE /actuator/apiregistry/XXXAPIImpl                                                       移除
+ * </pre>
+ *
+ * 注册会加载并执行指定位置中的任意类，默认不创建，需 api.hot-registry.endpoint.enabled=true 且在暴露的endpoint中；
+ * 开启后必须由 spring security 等限制只有管理员可以访问 /actuator/apiregistry，或只在管理端口上暴露。
+ *
+ * @author coderLee23
+ */
+@Endpoint(id = "apiregistry")
+public class ApiRegistryEndpoint {
+
+    private final ApiHotRegistry registry;
+
+    private final ApiRouteTable routeTable;
+
+    public ApiRegistryEndpoint(ApiHotRegistry registry, ApiRouteTable routeTable) {
+        this.registry = registry;
+        this.routeTable = routeTable;
+    }
+
+    @ReadOperation
+    public Map<String, Object> apis() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("apis", registry.describe());
+        result.put("routes", routeTable.getRoutes());
+        return result;
+    }
+
+    /**
+     * @param location 目录或jar的路径，或 file:/jar: 等URL
+     */
+    @WriteOperation
+    public List<String> register(String implClass, String location) {
+        return registry.register(implClass, toUrl(location));
+    }
+
+    private static URL toUrl(String location) {
+        try {
+            // 目录的 file URL 需以 / 结尾，URLClassLoader 才会按目录读取
+            return ResourceUtils.isUrl(location) ? ResourceUtils.getURL(location) : new File(location).toURI().toURL();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid location " + location, e);
+        }
+    }
+
+    @DeleteOperation
+    public boolean unregister(@Selector String name) {
+        return registry.unregister(name);
+    }
+
+}
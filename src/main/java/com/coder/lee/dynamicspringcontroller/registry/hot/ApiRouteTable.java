@@ -0,0 +1,145 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: 运行时热注册API的路由表，优先于 RequestMappingHandlerMapping 匹配
+ * Copyright: Copyright (c)
+ * Company: Ruijie Co., Ltd.
+ * Create Time: 2026/10/18 16:30
+ *
+ * 写时复制：变更时复制整张表后通过volatile引用一次性发布，请求线程读路由表无锁，
+ * 同一API的所有路由在一次发布中同时生效。被移除的启动期API以 {@link #REMOVED} 占位，返回404。
+ * 匹配后与 RequestMappingInfoHandlerMapping#handleMatch 一样设置匹配的路径及可输出的媒体类型，
+ * 供内容协商及按endpoint统计异常使用。
+ *
+ * @author coderLee23
+ */
+public class ApiRouteTable extends AbstractHandlerMapping {
+
+    /**
+     * 已移除的路由
+     */
+    public static final HttpRequestHandler REMOVED = (request, response) -> response.sendError(HttpStatus.NOT_FOUND.value());
+
+    private volatile Map<String, Route> routes = Collections.emptyMap();
+
+    public ApiRouteTable() {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        Map<String, Route> current = routes;
+        if (current.isEmpty()) {
+            return null;
+        }
+        String lookupPath = initLookupPath(request);
+        Route route = current.get(lookupPath);
+        if (route == null || (route.handler != REMOVED && !route.matches(request.getMethod()))) {
+            return null;
+        }
+        handleMatch(route, lookupPath, request);
+        return route.handler;
+    }
+
+    private static void handleMatch(Route route, String lookupPath, HttpServletRequest request) {
+        request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, route.handler);
+        request.setAttribute(PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, lookupPath);
+        // 路由都是不含变量的完整路径
+        request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, lookupPath);
+        request.setAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE, Collections.emptyMap());
+        if (!route.producibleMediaTypes.isEmpty()) {
+            request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, route.producibleMediaTypes);
+        }
+    }
+
+    /**
+     * 用新的路由整体替换某个API的路由
+     *
+     * @param api      API的 beanName
+     * @param handlers path -> handler
+     */
+    public synchronized void publish(String api, Map<String, Object> handlers) {
+        Map<String, Route> next = new HashMap<>(routes);
+        next.values().removeIf(route -> route.api.equals(api));
+        handlers.forEach((path, handler) -> next.put(path, new Route(api, handler)));
+        routes = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * 删除某个API的所有路由，请求回落到启动时注册的controller
+     */
+    public synchronized void remove(String api) {
+        Map<String, Route> next = new HashMap<>(routes);
+        next.values().removeIf(route -> route.api.equals(api));
+        routes = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * @return path -> API beanName
+     */
+    public Map<String, String> getRoutes() {
+        Map<String, String> snapshot = new HashMap<>();
+        routes.forEach((path, route) -> snapshot.put(path, route.handler == REMOVED ? route.api + " (removed)" : route.api));
+        return snapshot;
+    }
+
+    private static class Route {
+
+        private final String api;
+
+        private final Object handler;
+
+        /**
+         * {@code @IdempotentGet} 方法为GET(及HEAD)，其余为POST
+         */
+        private final boolean get;
+
+        /**
+         * 映射声明的 produces，发布时解析一次
+         */
+        private final Set<MediaType> producibleMediaTypes;
+
+        Route(String api, Object handler) {
+            this.api = api;
+            this.handler = handler;
+            this.get = handler instanceof HandlerMethod && ((HandlerMethod) handler).hasMethodAnnotation(GetMapping.class);
+            this.producibleMediaTypes = getProducibleMediaTypes(handler);
+        }
+
+        private static Set<MediaType> getProducibleMediaTypes(Object handler) {
+            if (!(handler instanceof HandlerMethod)) {
+                return Collections.emptySet();
+            }
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(((HandlerMethod) handler).getMethod(), RequestMapping.class);
+            if (mapping == null || mapping.produces().length == 0) {
+                return Collections.emptySet();
+            }
+            return Collections.unmodifiableSet(new LinkedHashSet<>(MediaType.parseMediaTypes(Arrays.asList(mapping.produces()))));
+        }
+
+        private boolean matches(String method) {
+            return get ? HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) : HttpMethod.POST.matches(method);
+        }
+
+    }
+
+}
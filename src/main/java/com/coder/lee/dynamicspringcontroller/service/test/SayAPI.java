@@ -1,5 +1,15 @@
 package com.coder.lee.dynamicspringcontroller.service.test;
 
+import com.coder.lee.dynamicspringcontroller.annotation.ApiCacheable;
+import com.coder.lee.dynamicspringcontroller.annotation.Blocking;
+import com.coder.lee.dynamicspringcontroller.annotation.IdempotentGet;
+import com.coder.lee.dynamicspringcontroller.annotation.MicroBatch;
+import com.coder.lee.dynamicspringcontroller.annotation.SingleFlight;
+
+import javax.validation.constraints.NotBlank;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Description: Function Description
  * Copyright: Copyright (c)
@@ -10,10 +20,31 @@ package com.coder.lee.dynamicspringcontroller.service.test;
  */
 public interface SayAPI {
 
+    @ApiCacheable(maximumSize = 256, expireAfterWrite = 30)
     String say(String wordStr);
 
+    @SingleFlight
     String say(Word word);
 
     String say();
 
+    String say(String wordStr, Word word);
+
+    @IdempotentGet(cacheControl = "public, max-age=60")
+    String echo(@NotBlank String wordStr, int times);
+
+    @IdempotentGet
+    String ping(@NotBlank String wordStr);
+
+    @SingleFlight
+    CompletableFuture<String> sayAsync(String wordStr);
+
+    @MicroBatch(maxSize = 16, maxDelayMillis = 2)
+    String whisper(Word word);
+
+    List<String> whisper(List<Word> words);
+
+    @Blocking(threads = 2, queueCapacity = 16)
+    String sayBlocking(String wordStr);
+
 }
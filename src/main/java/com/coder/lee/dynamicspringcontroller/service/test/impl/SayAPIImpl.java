@@ -5,6 +5,10 @@ import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
 import com.coder.lee.dynamicspringcontroller.service.test.Word;
 
 import javax.validation.constraints.NotBlank;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Description: Function Description
@@ -31,4 +35,40 @@ public class SayAPIImpl implements SayAPI {
         return "说什么好呢！";
     }
 
+    @Override
+    public String say(String wordStr, Word word) {
+        return "说:" + wordStr + "," + word.getWord();
+    }
+
+    @Override
+    public String echo(String wordStr, int times) {
+        return "回声:" + String.join(" ", Collections.nCopies(Math.max(times, 1), wordStr));
+    }
+
+    @Override
+    public String ping(String wordStr) {
+        return "pong:" + wordStr;
+    }
+
+    @Override
+    public CompletableFuture<String> sayAsync(String wordStr) {
+        return CompletableFuture.supplyAsync(() -> "说:" + wordStr);
+    }
+
+    @Override
+    public String whisper(Word word) {
+        return "悄悄说:" + word.getWord();
+    }
+
+    @Override
+    public List<String> whisper(List<Word> words) {
+        // 一次处理一批，如一条 where in 查询
+        return words.stream().map(word -> "悄悄说:" + word.getWord() + "/" + words.size()).collect(Collectors.toList());
+    }
+
+    @Override
+    public String sayBlocking(String wordStr) {
+        return "说:" + wordStr + "@" + Thread.currentThread().getName();
+    }
+
 }
@@ -1,13 +1,33 @@
 package com.coder.lee.dynamicspringcontroller;
 
+import com.coder.lee.dynamicspringcontroller.limit.AdaptiveConcurrencyInterceptor;
+import com.coder.lee.dynamicspringcontroller.limit.ApiOverloadException;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class DynamicSpringControllerApplicationTests {
 
+    @Autowired
+    private ApplicationContext context;
+
     @Test
     void contextLoads() {
     }
 
+    /**
+     * 准入控制默认关闭，拒绝时的异常默认不采集堆栈
+     */
+    @Test
+    void limitDisabledByDefault() {
+        assertThat(context.getBeanNamesForType(AdaptiveConcurrencyInterceptor.class)).isEmpty();
+        assertThat(new ApiOverloadException("busy", Duration.ofSeconds(1)).getStackTrace()).isEmpty();
+    }
+
 }
@@ -0,0 +1,270 @@
+package com.coder.lee.dynamicspringcontroller;
+
+import com.coder.lee.dynamicspringcontroller.config.LazyApiDocsConfig;
+import com.coder.lee.dynamicspringcontroller.json.BinaryFormat;
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.hot.ApiRegistryEndpoint;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import com.coder.lee.dynamicspringcontroller.service.test.impl.SayAPIImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.Filter;
+import javax.validation.Validator;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "api.limit.enabled=true")
+class GeneratedControllerTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private RecordingEndpointInterceptor interceptor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    @Autowired
+    private LazyApiDocsConfig.LazyDocumentation lazyDocumentation;
+
+    @Autowired
+    private FilterRegistrationBean<Filter> lazyApiDocsFilter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    private static ResultMatcher body(String expected) {
+        return result -> assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains(expected);
+    }
+
+    @Test
+    void sayString() throws Exception {
+        mockMvc.perform(post("/say_String").contentType(MediaType.APPLICATION_JSON).content("\"hello\""))
+                .andExpect(status().isOk())
+                .andExpect(body("说:hello"));
+    }
+
+    @Test
+    void sayWord() throws Exception {
+        mockMvc.perform(post("/say_Word").contentType(MediaType.APPLICATION_JSON).content("{\"word_xx\":\"hi\"}"))
+                .andExpect(status().isOk())
+                .andExpect(body("hi"));
+    }
+
+    @Test
+    void sayWordCbor() throws Exception {
+        ObjectMapper cbor = BinaryFormat.CBOR.objectMapper();
+        MvcResult result = mockMvc.perform(post("/say_Word").contentType(MediaType.APPLICATION_CBOR).accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(new Word("binary"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn();
+        assertThat(cbor.readValue(result.getResponse().getContentAsByteArray(), String.class)).contains("binary");
+    }
+
+    @Test
+    void apiDocsBuiltOnFirstRequest() throws Exception {
+        assertThat(lazyDocumentation.isStarted()).isFalse();
+        MockMvc docsMvc = MockMvcBuilders.webAppContextSetup(context).addFilter(lazyApiDocsFilter.getFilter(), "/v3/api-docs").build();
+        docsMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(body("/say_Word"))
+                .andExpect(body("word_xx"));
+        assertThat(lazyDocumentation.isStarted()).isTrue();
+    }
+
+    @Test
+    void sayWordNotValid() throws Exception {
+        mockMvc.perform(post("/say_Word").contentType(MediaType.APPLICATION_JSON).content("{\"word_xx\":\"\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sayNothing() throws Exception {
+        mockMvc.perform(post("/say_"))
+                .andExpect(status().isOk())
+                .andExpect(body("说什么好呢"));
+    }
+
+    @Test
+    void sayStringWord() throws Exception {
+        mockMvc.perform(post("/say_String_Word").contentType(MediaType.APPLICATION_JSON).content("{\"wordStr\":\"hello\",\"word\":{\"word_xx\":\"world\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(body("说:hello,world"));
+    }
+
+    @Test
+    void sayStringWordNotValid() throws Exception {
+        mockMvc.perform(post("/say_String_Word").contentType(MediaType.APPLICATION_JSON).content("{\"wordStr\":\"hello\",\"word\":{\"word_xx\":\"\"}}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void idempotentGet() throws Exception {
+        MvcResult result = mockMvc.perform(get("/echo_String_int").param("wordStr", "hi").param("times", "2"))
+                .andExpect(status().isOk())
+                .andExpect(body("回声:hi hi"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=60"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/echo_String_int").param("wordStr", "hi").param("times", "2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/echo_String_int").param("wordStr", ""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/echo_String_int"))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    @Test
+    void idempotentGetSingleParameter() throws Exception {
+        // 单参数同样绑定到参数容器，proxy 模式下需按容器字段找到实现方法
+        mockMvc.perform(get("/ping_String").param("wordStr", "hi"))
+                .andExpect(status().isOk())
+                .andExpect(body("pong:hi"));
+        mockMvc.perform(get("/ping_String").param("wordStr", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sayAsync() throws Exception {
+        MvcResult result = mockMvc.perform(post("/sayAsync_String").contentType(MediaType.APPLICATION_JSON).content("\"async\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(body("说:async"));
+    }
+
+    @Test
+    void sayBlocking() throws Exception {
+        MvcResult result = mockMvc.perform(post("/sayBlocking_String").contentType(MediaType.APPLICATION_JSON).content("\"blocking\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(body("说:blocking@api-blocking-SayAPI-"));
+    }
+
+    @Test
+    void whisperMicroBatch() throws Exception {
+        MvcResult result = mockMvc.perform(post("/whisper_Word").contentType(MediaType.APPLICATION_JSON).content("{\"word_xx\":\"batched\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(body("悄悄说:batched/1"));
+    }
+
+    @Test
+    void deadlineExceeded() throws Exception {
+        mockMvc.perform(post("/say_").header("X-Request-Deadline", System.currentTimeMillis() - 1000))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void batch() throws Exception {
+        String calls = "[{\"method\":\"say_String\",\"args\":[\"a\"]},"
+                + "{\"method\":\"say_String_Word\",\"args\":[\"b\",{\"word_xx\":\"c\"}]},"
+                + "{\"method\":\"sayBlocking_String\",\"args\":[\"d\"]},"
+                + "{\"method\":\"say_Word\",\"args\":[{\"word_xx\":\"\"}]},"
+                + "{\"method\":\"unknown\"},"
+                + "{\"method\":\"say_String_Word\",\"args\":[\"e\",{\"word_xx\":\"\"}]},"
+                + "{\"method\":\"say_String\",\"args\":[\"a\"]}]";
+        mockMvc.perform(post("/SayAPI/_batch").contentType(MediaType.APPLICATION_JSON).content(calls))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].result").value("说:a"))
+                .andExpect(jsonPath("$[1].result").value("说:b,c"))
+                .andExpect(jsonPath("$[2].result").value(startsWith("说:d@api-blocking-SayAPI-")))
+                .andExpect(jsonPath("$[3].status").value(400))
+                .andExpect(jsonPath("$[4].status").value(404))
+                .andExpect(jsonPath("$[5].status").value(400))
+                .andExpect(jsonPath("$[5].error").value(startsWith("word.word:")))
+                // 批量调用不经过响应缓存，重复调用 @ApiCacheable 方法仍返回结果
+                .andExpect(jsonPath("$[6].result").value("说:a"));
+        // 与单次请求共用容器中的 Validator
+        assertThat(postProcessor.getBatchExecutor().getValidator()).isSameAs(context.getBean(Validator.class));
+    }
+
+    @Test
+    void interceptorChain() throws Exception {
+        interceptor.getRecords().clear();
+        mockMvc.perform(post("/say_String").contentType(MediaType.APPLICATION_JSON).content("\"chain\""))
+                .andExpect(status().isOk());
+        assertThat(interceptor.getRecords()).containsExactly("before:say_String", "after:say_String=说:chain");
+    }
+
+    @Test
+    void responseCache() throws Exception {
+        interceptor.getRecords().clear();
+        for (String content : new String[]{"\"cached\"", " \"cached\" "}) {
+            mockMvc.perform(post("/say_String").contentType(MediaType.APPLICATION_JSON).content(content))
+                    .andExpect(status().isOk())
+                    .andExpect(body("说:cached"));
+        }
+        // 第二次命中缓存，不再调用实现类
+        assertThat(interceptor.getRecords()).containsExactly("before:say_String", "after:say_String=说:cached");
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "SayAPI#say_String", "result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void endpointMetrics() throws Exception {
+        mockMvc.perform(post("/say_Word").contentType(MediaType.APPLICATION_JSON).content("{\"word_xx\":\"metrics\"}"))
+                .andExpect(status().isOk());
+        assertThat(meterRegistry.get("api.endpoint.requests").tags("api", "SayAPI", "method", "say_Word").timer().count()).isPositive();
+        assertThat(meterRegistry.get("api.endpoint.active").tags("api", "SayAPI", "method", "say_Word").gauge().value()).isZero();
+    }
+
+    @Test
+    void startupReport() throws Exception {
+        mockMvc.perform(get("/actuator/apistartup"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.apiCount").value(1))
+                .andExpect(jsonPath("$.phases.SCAN.count").value(1))
+                .andExpect(jsonPath("$.phases.REGISTRATION.count").value(2))
+                .andExpect(jsonPath("$.apis[0].name").value("SayAPIImpl"))
+                .andExpect(jsonPath("$.apis[0].phases.INTERFACE_RESOLUTION").exists());
+    }
+
+    @Test
+    void apiRegistryEndpointDisabledByDefault() throws Exception {
+        assertThat(context.getBeanNamesForType(ApiRegistryEndpoint.class)).isEmpty();
+        mockMvc.perform(get("/actuator/apiregistry"))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.coder.lee.dynamicspringcontroller;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * proxy 调用模式下运行与 direct 模式相同的用例，controller在运行时生成(预生成的controller只支持 direct)
+ */
+@SpringBootTest(properties = {"api.dispatch.mode=proxy", "api.limit.enabled=true"})
+class ProxyDispatchControllerTests extends GeneratedControllerTests {
+
+    @Autowired
+    private ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    @Test
+    void proxyDispatchMode() {
+        assertThat(postProcessor.getGenerator().getDispatchMode()).isEqualTo(DispatchMode.PROXY);
+        assertThat(postProcessor.getStartupReport().toMap()).containsEntry("prebuilt", 0);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.coder.lee.dynamicspringcontroller;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 运行在webflux(netty)上：同步方法返回 Mono，blocking方法在API的线程池上执行
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.main.web-application-type=reactive")
+class ReactiveControllerTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    private String post(String path, String body) {
+        return webTestClient.post().uri(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Test
+    void synchronousMethodReturnsMono() {
+        Method method = ApiControllerGenerator.getControllerMethods(postProcessor.getControllerClasses().get(0)).get("say_String");
+        assertThat(method.getReturnType()).isEqualTo(Mono.class);
+        assertThat(post("/say_String", "\"reactive\"")).contains("说:reactive");
+    }
+
+    @Test
+    void multipleParameters() {
+        assertThat(post("/say_String_Word", "{\"wordStr\":\"a\",\"word\":{\"word_xx\":\"b\"}}")).contains("说:a,b");
+    }
+
+    @Test
+    void blockingOnApiExecutor() {
+        assertThat(post("/sayBlocking_String", "\"blocking\"")).contains("说:blocking@api-blocking-SayAPI-");
+    }
+
+    @Test
+    void batch() {
+        assertThat(post("/SayAPI/_batch", "[{\"method\":\"say_String\",\"args\":[\"a\"]},{\"method\":\"sayBlocking_String\",\"args\":[\"b\"]}]"))
+                .contains("说:a", "说:b@api-blocking-SayAPI-");
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.coder.lee.dynamicspringcontroller;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 测试用拦截器，记录经过拦截链的调用；压测时关闭，避免记录本身成为瓶颈
+ */
+@Component
+@ConditionalOnProperty(name = "test.recording-interceptor.enabled", havingValue = "true", matchIfMissing = true)
+public class RecordingEndpointInterceptor implements EndpointInterceptor {
+
+    private final List<String> records = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void before(ApiInvocation invocation) {
+        records.add("before:" + invocation.getEndpoint().getName());
+    }
+
+    @Override
+    public void after(ApiInvocation invocation) {
+        records.add("after:" + invocation.getEndpoint().getName() + "=" + invocation.getResult());
+    }
+
+    @Override
+    public void error(ApiInvocation invocation, Throwable error) {
+        records.add("error:" + invocation.getEndpoint().getName());
+    }
+
+    public List<String> getRecords() {
+        return records;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.annotation.Blocking;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiBlockingExecutorsTests {
+
+    @Blocking(threads = 2, queueCapacity = 4)
+    public interface SharedAPI {
+
+        String first(String value);
+
+        @Blocking(threads = 2, queueCapacity = 4)
+        String second(String value);
+
+    }
+
+    public interface ConflictingAPI {
+
+        @Blocking(threads = 2)
+        String small(String value);
+
+        @Blocking(threads = 16)
+        String large(String value);
+
+    }
+
+    private final ApiBlockingExecutors executors = new ApiBlockingExecutors();
+
+    @AfterEach
+    void shutdown() {
+        executors.shutdown();
+    }
+
+    @Test
+    void methodsOfOneApiShareExecutor() {
+        List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(SharedAPI.class, "SharedAPIImpl");
+        executors.bind(endpoints);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) endpoints.get(0).getExecutor();
+        assertThat(endpoints.get(1).getExecutor()).isSameAs(executor);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(executor.getQueue().remainingCapacity()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectConflictingSettings() {
+        List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(ConflictingAPI.class, "ConflictingAPIImpl");
+        assertThatThrownBy(() -> executors.bind(endpoints))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("threads=16")
+                .hasMessageContaining("threads=2");
+        assertThat(endpoints).allSatisfy(endpoint -> assertThat(endpoint.getExecutor()).isNull());
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.coder.lee.dynamicspringcontroller.async;
+
+import com.coder.lee.dynamicspringcontroller.annotation.MicroBatch;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiMicroBatcherTests {
+
+    public interface EchoAPI {
+
+        @MicroBatch(maxSize = 3, maxDelayMillis = 60_000)
+        String echo(String value);
+
+        List<String> echo(List<String> values);
+
+        @MicroBatch(method = "echo", maxDelayMillis = 50)
+        String echoLater(String value);
+
+    }
+
+    private final List<List<String>> bulkCalls = new CopyOnWriteArrayList<>();
+
+    private final EchoAPI echoAPI = new EchoAPI() {
+
+        @Override
+        public String echo(String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> echo(List<String> values) {
+            bulkCalls.add(values);
+            if (values.contains("boom")) {
+                throw new IllegalStateException("boom");
+            }
+            return values.stream().map(value -> value + "/" + values.size()).collect(Collectors.toList());
+        }
+
+        @Override
+        public String echoLater(String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    };
+
+    private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    private ApiEndpoint[] endpoint(String methodName) throws NoSuchMethodException {
+        ApiEndpoint endpoint = new ApiEndpoint(0, methodName + "_String", EchoAPI.class, EchoAPI.class.getMethod(methodName, String.class), "EchoAPIImpl");
+        assertThat(endpoint.isMicroBatched()).isTrue();
+        endpoint.setMicroBatcher(new ApiMicroBatcher(endpoint, timer, Runnable::run));
+        return new ApiEndpoint[]{endpoint};
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> submit(ApiEndpoint[] endpoints, String value) {
+        return ApiMicroBatcher.submit(endpoints, 0, arguments -> echoAPI.echo((List<String>) (List<?>) arguments), value);
+    }
+
+    @Test
+    void dispatchWhenFull() throws Exception {
+        ApiEndpoint[] endpoints = endpoint("echo");
+        CompletableFuture<Object> a = submit(endpoints, "a");
+        CompletableFuture<Object> b = submit(endpoints, "b");
+        assertThat(a).isNotDone();
+        CompletableFuture<Object> c = submit(endpoints, "c");
+
+        assertThat(a.get()).isEqualTo("a/3");
+        assertThat(b.get()).isEqualTo("b/3");
+        assertThat(c.get()).isEqualTo("c/3");
+        assertThat(bulkCalls).hasSize(1);
+    }
+
+    @Test
+    void dispatchAfterDelay() throws Exception {
+        ApiEndpoint[] endpoints = endpoint("echoLater");
+        CompletableFuture<Object> a = submit(endpoints, "a");
+        CompletableFuture<Object> b = submit(endpoints, "boom");
+
+        assertThatThrownBy(() -> a.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> b.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(bulkCalls).containsExactly(Arrays.asList("a", "boom"));
+    }
+
+}
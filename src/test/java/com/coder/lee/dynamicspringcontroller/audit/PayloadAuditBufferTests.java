@@ -0,0 +1,137 @@
+package com.coder.lee.dynamicspringcontroller.audit;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadAuditBufferTests {
+
+    private static final ApiEndpoint ENDPOINT = new ApiEndpoint(0, "say_Word", SayAPI.class,
+            ReflectionUtils.findMethod(SayAPI.class, "say", Word.class), "SayAPIImpl");
+
+    /**
+     * 记录被序列化的次数
+     */
+    public static class Probe {
+
+        private final AtomicInteger serialized;
+
+        Probe(AtomicInteger serialized) {
+            this.serialized = serialized;
+        }
+
+        public String getValue() {
+            serialized.incrementAndGet();
+            return "probe";
+        }
+
+    }
+
+    private final Logger auditLogger = (Logger) LoggerFactory.getLogger("API_AUDIT");
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        auditLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogger.detachAppender(appender);
+    }
+
+    private static PayloadAuditRecord record(Word word, Object result) {
+        return new PayloadAuditRecord(ENDPOINT, PayloadAuditRecord.Reason.SAMPLED, 1000, new Object[]{word}, result, null);
+    }
+
+    @Test
+    void enqueue() {
+        PayloadAuditBuffer buffer = new PayloadAuditBuffer(4);
+        assertThat(buffer.offer(record(new Word("a"), "说:a"))).isTrue();
+        assertThat(buffer.offer(record(new Word("b"), "说:b"))).isTrue();
+        assertThat(buffer.getPending()).isEqualTo(2);
+        assertThat(buffer.getDropped()).isZero();
+    }
+
+    @Test
+    void dropWhenFull() {
+        PayloadAuditBuffer buffer = new PayloadAuditBuffer(1);
+        assertThat(buffer.offer(record(new Word("a"), "说:a"))).isTrue();
+        assertThat(buffer.offer(record(new Word("b"), "说:b"))).isFalse();
+        assertThat(buffer.getPending()).isEqualTo(1);
+        assertThat(buffer.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void writeCapturedPayload() throws InterruptedException {
+        PayloadAuditBuffer buffer = new PayloadAuditBuffer(4);
+        Word word = new Word("before");
+        buffer.offer(record(word, "说:before"));
+        // 入队后修改参数，审计内容仍为调用时的值
+        word.setWord("after");
+        buffer.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (buffer.getWritten() == 0 && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        } finally {
+            buffer.stop();
+        }
+        assertThat(buffer.getWritten()).isEqualTo(1);
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .contains("[SAMPLED] SayAPI#say_Word 1us")
+                .contains("args=[{\"word_xx\":\"before\"}]")
+                .contains("result=\"说:before\"")
+                .doesNotContain("after");
+    }
+
+    @Test
+    void writeError() throws InterruptedException {
+        PayloadAuditBuffer buffer = new PayloadAuditBuffer(4);
+        buffer.offer(new PayloadAuditRecord(ENDPOINT, PayloadAuditRecord.Reason.ERROR, 1000, new Object[]{new Word("boom")}, null, new IllegalStateException("boom")));
+        buffer.start();
+        buffer.stop();
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .contains("[ERROR]")
+                .contains("error=java.lang.IllegalStateException: boom");
+    }
+
+    @Test
+    void fullBufferSkipsSerialization() throws Throwable {
+        PayloadAuditProperties properties = new PayloadAuditProperties();
+        properties.setSampleRate(1);
+        PayloadAuditBuffer buffer = new PayloadAuditBuffer(1);
+        ApiEndpoint endpoint = new ApiEndpoint(0, "say_Word", SayAPI.class, ENDPOINT.getMethod(), "SayAPIImpl");
+        endpoint.bind(Collections.singletonList(new PayloadAuditInterceptor(properties, buffer)));
+        AtomicInteger serialized = new AtomicInteger();
+
+        ApiInvocation.before(endpoint, new Object[]{new Word("a")}).afterReturning(new Probe(serialized));
+        assertThat(serialized).hasValue(1);
+        // 队列已满，丢弃且不再序列化
+        ApiInvocation.before(endpoint, new Object[]{new Word("b")}).afterReturning(new Probe(serialized));
+        assertThat(serialized).hasValue(1);
+        assertThat(buffer.getPending()).isEqualTo(1);
+        assertThat(buffer.getDropped()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.coder.lee.dynamicspringcontroller.coalesce;
+
+import com.coder.lee.dynamicspringcontroller.annotation.SingleFlight;
+import com.coder.lee.dynamicspringcontroller.interceptor.ApiInvocation;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightInterceptorTests {
+
+    interface SlowAPI {
+
+        @SingleFlight(maxWaitMillis = 50)
+        String slow(String wordStr);
+
+    }
+
+    private static ApiEndpoint endpoint(String name, Method method) {
+        ApiEndpoint endpoint = new ApiEndpoint(0, name, method.getDeclaringClass(), method, "SayAPIImpl");
+        endpoint.bind(Collections.singletonList(new SingleFlightInterceptor(ControllerTarget.SERVLET)));
+        return endpoint;
+    }
+
+    @Test
+    void followerWaitsForLeader() throws Throwable {
+        ApiEndpoint endpoint = endpoint("say_Word", SayAPI.class.getMethod("say", Word.class));
+        ApiInvocation leader = ApiInvocation.before(endpoint, new Object[]{new Word("hot")});
+        assertThat(leader.isShortCircuited()).isFalse();
+
+        AtomicReference<ApiInvocation> follower = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                follower.set(ApiInvocation.before(endpoint, new Object[]{new Word("hot")}));
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        leader.afterReturning("说:hot");
+        thread.join();
+
+        assertThat(follower.get().isShortCircuited()).isTrue();
+        assertThat(follower.get().getResult()).isEqualTo("说:hot");
+        // 已完成的调用不再合并
+        assertThat(ApiInvocation.before(endpoint, new Object[]{new Word("hot")}).isShortCircuited()).isFalse();
+    }
+
+    @Test
+    void followerStopsWaitingForSlowLeader() throws Throwable {
+        ApiEndpoint endpoint = endpoint("slow_String", SlowAPI.class.getMethod("slow", String.class));
+        ApiInvocation leader = ApiInvocation.before(endpoint, new Object[]{"slow"});
+        assertThat(leader.isShortCircuited()).isFalse();
+        long started = System.nanoTime();
+        // 超过 maxWaitMillis 后不短路，由等待方自己执行
+        ApiInvocation follower = ApiInvocation.before(endpoint, new Object[]{"slow"});
+        assertThat(follower.isShortCircuited()).isFalse();
+        assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        leader.afterReturning("slow");
+    }
+
+    @Test
+    void asyncFollowerSharesError() throws Throwable {
+        ApiEndpoint endpoint = endpoint("sayAsync_String", SayAPI.class.getMethod("sayAsync", String.class));
+        ApiInvocation leader = ApiInvocation.before(endpoint, new Object[]{"down"});
+        ApiInvocation follower = ApiInvocation.before(endpoint, new Object[]{"down"});
+        ApiInvocation other = ApiInvocation.before(endpoint, new Object[]{"up"});
+        assertThat(follower.isShortCircuited()).isTrue();
+        assertThat(other.isShortCircuited()).isFalse();
+
+        leader.afterThrowing(new IllegalStateException("down"));
+        assertThatThrownBy(() -> ((CompletableFuture<?>) follower.getResult()).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.coder.lee.dynamicspringcontroller.error;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ErrorLogLimiterTests {
+
+    @Test
+    void logOncePerIntervalAndCountAll() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ErrorLogLimiter limiter = new ErrorLogLimiter(Duration.ofHours(1), registry);
+        Logger logger = mock(Logger.class);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        for (int i = 0; i < 5; i++) {
+            limiter.log(logger, Level.WARN, HttpStatus.BAD_REQUEST, "/say_Word", "Message Not Readable", new IllegalArgumentException("bad"), false);
+        }
+        verify(logger, times(1)).warn("{} [{} {}]: {}", "Message Not Readable", 400, "/say_Word", "bad");
+        assertThat(registry.get("api.errors").tags("exception", "IllegalArgumentException", "endpoint", "/say_Word", "status", "400").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void stackTraceOnlyOnFirstLog() {
+        ErrorLogLimiter limiter = new ErrorLogLimiter(Duration.ZERO, null);
+        Logger logger = mock(Logger.class);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        IllegalStateException e = new IllegalStateException("boom");
+        limiter.log(logger, Level.ERROR, HttpStatus.INTERNAL_SERVER_ERROR, "/say_", "Internal Server Error", e, true);
+        limiter.log(logger, Level.ERROR, HttpStatus.INTERNAL_SERVER_ERROR, "/say_", "Internal Server Error", e, true);
+        verify(logger).error("{} [{} {}]", "Internal Server Error", 500, "/say_", e);
+        verify(logger).error("{} [{} {}]: {}", "Internal Server Error", 500, "/say_", "boom");
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.coder.lee.dynamicspringcontroller.interceptor;
+
+import com.coder.lee.dynamicspringcontroller.batch.ApiBatchExecutor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import com.coder.lee.dynamicspringcontroller.service.parallel.HelloAPI;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 织入拦截链的controller方法：没有适用拦截器时不创建 ApiInvocation 及参数数组
+ */
+class EndpointAdviceTests {
+
+    private static final String BEAN_NAME = "HelloAPIImpl";
+
+    private static final int CALLS = 20_000;
+
+    private static List<ApiEndpoint> endpoints;
+
+    private static Object controller;
+
+    private static MethodHandle hello;
+
+    @BeforeAll
+    static void make() throws Exception {
+        endpoints = ApiControllerGenerator.getApiEndpoints(HelloAPI.class, BEAN_NAME);
+        Class<?> controllerClazz = new ApiControllerGenerator(DispatchMode.DIRECT, ControllerTarget.SERVLET, true)
+                .make(BEAN_NAME, endpoints, null)
+                .load(EndpointAdviceTests.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        ApiControllerGenerator.bindApiEndpoints(controllerClazz, endpoints, new ApiBatchExecutor(1, 16, () -> null));
+        controller = BeanUtils.instantiateClass(controllerClazz);
+        // 原样返回参数，调用本身不分配内存
+        ApiControllerGenerator.setDelegate(controller, (HelloAPI) wordStr -> wordStr);
+        hello = MethodHandles.lookup().unreflect(ApiControllerGenerator.getControllerMethods(controllerClazz).get("hello_String"))
+                .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+    }
+
+    @AfterEach
+    void unbind() {
+        endpoints.forEach(ApiEndpoint::unbind);
+    }
+
+    private static long callAll() throws Throwable {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < CALLS; i++) {
+            Object result = (Object) hello.invokeExact(controller, (Object) "a");
+            if (result != "a") {
+                throw new AssertionError(result);
+            }
+        }
+        return threads.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    @Test
+    void emptyChainAllocatesNothing() throws Throwable {
+        EndpointInterceptor unrelated = new EndpointInterceptor() {
+            @Override
+            public boolean supports(ApiEndpoint endpoint) {
+                return false;
+            }
+        };
+        endpoints.forEach(endpoint -> endpoint.bind(Collections.singletonList(unrelated)));
+        assertThat(endpoints.get(0).getInterceptors()).isEmpty();
+
+        // 预热后再统计，排除解释执行及类初始化的分配
+        callAll();
+        // 每次调用至少会创建参数数组及 ApiInvocation(数十字节)，允许统计本身的少量分配
+        assertThat(callAll()).isLessThan(CALLS);
+    }
+
+    @Test
+    void onlyApplicableInterceptorsAreCalled() throws Throwable {
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        EndpointInterceptor applicable = new EndpointInterceptor() {
+            @Override
+            public void before(ApiInvocation invocation) {
+                applied.incrementAndGet();
+            }
+        };
+        EndpointInterceptor inapplicable = new EndpointInterceptor() {
+            @Override
+            public boolean supports(ApiEndpoint endpoint) {
+                return false;
+            }
+
+            @Override
+            public void bind(ApiEndpoint endpoint) {
+                skipped.incrementAndGet();
+            }
+
+            @Override
+            public void before(ApiInvocation invocation) {
+                skipped.incrementAndGet();
+            }
+        };
+        endpoints.forEach(endpoint -> endpoint.bind(Arrays.asList(inapplicable, applicable)));
+        assertThat(endpoints.get(0).getInterceptors()).containsExactly(applicable);
+
+        assertThat((Object) hello.invokeExact(controller, (Object) "a")).isEqualTo("a");
+        assertThat(applied).hasValue(1);
+        assertThat(skipped).hasValue(0);
+    }
+
+}
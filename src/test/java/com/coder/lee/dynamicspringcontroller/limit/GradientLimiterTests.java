@@ -0,0 +1,59 @@
+package com.coder.lee.dynamicspringcontroller.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimiterTests {
+
+    private static AdaptiveLimitProperties properties() {
+        AdaptiveLimitProperties properties = new AdaptiveLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(2);
+        properties.setWindow(Duration.ZERO);
+        properties.setMaxLimit(40);
+        properties.setMinSamples(20);
+        properties.setSmoothing(1.0);
+        return properties;
+    }
+
+    @Test
+    void rejectOverLimit() {
+        GradientLimiter limiter = new GradientLimiter(properties());
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shrinkWhenLatencyRises() {
+        GradientLimiter limiter = new GradientLimiter(properties());
+        saturate(limiter, 10, 5);
+        int stable = limiter.getLimit();
+        assertThat(stable).isEqualTo(40);
+        saturate(limiter, 100, 1);
+        assertThat(limiter.getLimit()).isLessThan(stable);
+    }
+
+    /**
+     * 用满当前限制后以给定延迟全部释放
+     */
+    private static void saturate(GradientLimiter limiter, long rttMillis, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), true);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.coder.lee.dynamicspringcontroller.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 端到端压测：mvn -Pload test，参数见 pom.xml 中的 load 属性
+ *
+ * 请求经过tomcat、消息转换器、校验及异常处理，每20个请求中有1个校验失败的请求(预期400)。
+ * 结果写入 load.output；load.baseline 存在时与之比较，超出 load.tolerance 则失败。
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "test.recording-interceptor.enabled=false")
+class EndpointLoadTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointLoadTests.class);
+
+    private static final int INVALID_EVERY = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void constantArrivalRate() throws Exception {
+        int apis = Integer.getInteger("load.apis", 200);
+        int rate = Integer.getInteger("load.rate", 500);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        Path output = Paths.get(System.getProperty("load.output", "target/load-test/result.json"));
+        Path baselinePath = Paths.get(System.getProperty("load.baseline", "src/test/resources/load-baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.2"));
+
+        LoadReport report;
+        try (OpenModelLoadGenerator generator = new OpenModelLoadGenerator(port, Integer.getInteger("load.connections", 256))) {
+            LoadRequest probe = request(apis - 1, false, false);
+            assertThat(generator.run(1, Duration.ZERO, Duration.ofSeconds(1), n -> probe).getErrors())
+                    .as("synthetic apis not registered, run with -Pload").isZero();
+            report = generator.run(rate, warmup, duration, n -> request((int) (n / 2 % apis), n % 2 == 0, n % INVALID_EVERY == INVALID_EVERY - 1));
+        }
+        report.setApis(apis);
+        if (Files.exists(baselinePath)) {
+            report.setRegressions(report.compareTo(LoadReport.read(baselinePath), tolerance));
+        }
+        report.write(output);
+        LOGGER.info("load test result written to {}: p50={}ms p99={}ms p999={}ms throughput={}/s errors={}",
+                output.toAbsolutePath(), report.getP50(), report.getP99(), report.getP999(), report.getThroughput(), report.getErrors());
+        assertThat(report.getRegressions()).as("regressions against %s", baselinePath).isEqualTo(Collections.emptyList());
+    }
+
+    private static LoadRequest request(int api, boolean text, boolean invalid) {
+        String path = "/" + SyntheticApiGenerator.methodName(api);
+        if (invalid) {
+            return new LoadRequest(path + "_Word", "{\"word_xx\":\"\"}", HttpStatus.BAD_REQUEST.value());
+        }
+        if (text) {
+            return new LoadRequest(path + "_String", "\"hello\"", HttpStatus.OK.value());
+        }
+        return new LoadRequest(path + "_Word", "{\"word_xx\":\"hi\"}", HttpStatus.OK.value());
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.coder.lee.dynamicspringcontroller.load;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import lombok.Data;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 一次压测的结果，以JSON输出，可作为下一次压测的基线
+ *
+ * 延迟单位为毫秒，从计划发送时间开始计算(包含客户端排队)，避免 coordinated omission。
+ */
+@Data
+public class LoadReport {
+
+    private int apis;
+
+    private int targetRate;
+
+    private double durationSeconds;
+
+    /**
+     * 统计区间内计划发送的请求数
+     */
+    private long requests;
+
+    /**
+     * 统计区间内完成的请求数/秒
+     */
+    private double throughput;
+
+    private double p50;
+
+    private double p99;
+
+    private double p999;
+
+    private double max;
+
+    /**
+     * 连接异常、超时及响应码与预期不一致的请求数
+     */
+    private long errors;
+
+    private Map<String, Long> statuses = new TreeMap<>();
+
+    /**
+     * 与基线比较超出容差的指标，未指定基线时为空
+     */
+    private List<String> regressions = new ArrayList<>();
+
+    /**
+     * 延迟不高于基线*(1+tolerance)，吞吐量不低于基线*(1-tolerance)，错误数不多于基线
+     */
+    public List<String> compareTo(LoadReport baseline, double tolerance) {
+        List<String> result = new ArrayList<>();
+        checkLatency(result, "p50", p50, baseline.p50, tolerance);
+        checkLatency(result, "p99", p99, baseline.p99, tolerance);
+        checkLatency(result, "p999", p999, baseline.p999, tolerance);
+        if (throughput < baseline.throughput * (1 - tolerance)) {
+            result.add(String.format("throughput %.1f/s < baseline %.1f/s", throughput, baseline.throughput));
+        }
+        if (errors > baseline.errors) {
+            result.add(String.format("errors %d > baseline %d", errors, baseline.errors));
+        }
+        return result;
+    }
+
+    private static void checkLatency(List<String> result, String name, double value, double baseline, double tolerance) {
+        if (value > baseline * (1 + tolerance)) {
+            result.add(String.format("%s %.3fms > baseline %.3fms", name, value, baseline));
+        }
+    }
+
+    public static LoadReport read(Path path) throws IOException {
+        return JSON.parseObject(new String(Files.readAllBytes(path), StandardCharsets.UTF_8), LoadReport.class);
+    }
+
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.write(path, JSON.toJSONString(this, SerializerFeature.PrettyFormat).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.coder.lee.dynamicspringcontroller.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 压测请求，响应码与 expectedStatus 不一致时计为错误
+ */
+@Data
+@AllArgsConstructor
+public class LoadRequest {
+
+    private String path;
+
+    private String body;
+
+    private int expectedStatus;
+
+}
@@ -0,0 +1,154 @@
+package com.coder.lee.dynamicspringcontroller.load;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * 开放模型(固定到达率)的HTTP压测客户端
+ *
+ * 按固定间隔发送请求，不等待前一个请求返回，服务端变慢时请求在客户端连接池中排队；
+ * 延迟从计划发送时间开始计算，因此排队时间也计入延迟，不会因服务端变慢而少发请求。
+ */
+public class OpenModelLoadGenerator implements AutoCloseable {
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoopResources loopResources = LoopResources.create("load", 2, true);
+
+    private final ConnectionProvider connectionProvider;
+
+    private final HttpClient httpClient;
+
+    public OpenModelLoadGenerator(int port, int maxConnections) {
+        this.connectionProvider = ConnectionProvider.builder("load")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(RESPONSE_TIMEOUT)
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(RESPONSE_TIMEOUT)
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    /**
+     * @param rate     每秒请求数
+     * @param warmup   预热时长，期间的请求不计入结果
+     * @param duration 统计时长
+     * @param requests 第n个请求
+     */
+    public LoadReport run(int rate, Duration warmup, Duration duration, LongFunction<LoadRequest> requests) throws InterruptedException, TimeoutException {
+        Run run = new Run();
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        for (long n = 0; ; n++) {
+            long intended = start + n * period;
+            if (intended >= end) {
+                break;
+            }
+            long delay;
+            while ((delay = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            send(run, requests.apply(n), intended, intended >= measureStart);
+        }
+        long deadline = System.nanoTime() + RESPONSE_TIMEOUT.toNanos() * 2;
+        while (run.inFlight.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException(run.inFlight.get() + " requests still in flight");
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return run.report(rate, duration);
+    }
+
+    private void send(Run run, LoadRequest request, long intended, boolean measured) {
+        run.inFlight.incrementAndGet();
+        if (measured) {
+            run.requests.increment();
+        }
+        httpClient.post()
+                .uri(request.getPath())
+                .send(ByteBufFlux.fromString(Mono.just(request.getBody())))
+                .responseSingle((response, body) -> body.asByteArray().then(Mono.just(response.status().code())))
+                .subscribe(status -> {
+                    if (measured) {
+                        run.record(intended, status, status != request.getExpectedStatus());
+                    }
+                    run.inFlight.decrementAndGet();
+                }, error -> {
+                    if (measured) {
+                        run.record(intended, null, true);
+                    }
+                    run.inFlight.decrementAndGet();
+                });
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block();
+        loopResources.disposeLater().block();
+    }
+
+    private static class Run {
+
+        /**
+         * 微秒，3位有效数字
+         */
+        private final Histogram latency = new ConcurrentHistogram(3);
+
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private void record(long intended, Integer status, boolean error) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+            statuses.computeIfAbsent(status == null ? "error" : String.valueOf(status), key -> new LongAdder()).increment();
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        private LoadReport report(int rate, Duration duration) {
+            LoadReport report = new LoadReport();
+            double seconds = duration.toMillis() / 1000.0;
+            report.setTargetRate(rate);
+            report.setDurationSeconds(seconds);
+            report.setRequests(requests.sum());
+            report.setThroughput(latency.getTotalCount() / seconds);
+            report.setP50(latency.getValueAtPercentile(50) / 1000.0);
+            report.setP99(latency.getValueAtPercentile(99) / 1000.0);
+            report.setP999(latency.getValueAtPercentile(99.9) / 1000.0);
+            report.setMax(latency.getMaxValue() / 1000.0);
+            report.setErrors(errors.sum());
+            statuses.forEach((status, count) -> report.getStatuses().put(status, count.sum()));
+            return report;
+        }
+
+    }
+
+}
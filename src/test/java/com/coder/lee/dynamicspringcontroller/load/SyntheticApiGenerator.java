@@ -0,0 +1,83 @@
+package com.coder.lee.dynamicspringcontroller.load;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinition;
+import com.coder.lee.dynamicspringcontroller.registry.ApiDefinitionScanner;
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.MethodDelegation;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+
+/**
+ * 生成压测用的 XXXAPI/XXXAPIImpl 及其API索引，由 -Pload 在 process-test-classes 阶段执行
+ *
+ * 输出目录只加入压测的类路径，不影响其它测试；generated controller 没有类级别的路径前缀，
+ * 所以每个API的方法名带上序号(sayN)，避免映射冲突。
+ */
+public final class SyntheticApiGenerator {
+
+    public static final String API_PACKAGE = "com.coder.lee.dynamicspringcontroller.service.test.synthetic";
+
+    private SyntheticApiGenerator() {
+    }
+
+    public static String methodName(int index) {
+        return String.format("say%04d", index);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Assert.isTrue(args.length == 2, "usage: SyntheticApiGenerator <outputDirectory> <count>");
+        File outputDirectory = new File(args[0]);
+        int count = Integer.parseInt(args[1]);
+        FileSystemUtils.deleteRecursively(outputDirectory);
+        List<ApiDefinition> definitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String simpleName = String.format("Synthetic%04dAPI", i);
+            DynamicType.Unloaded<?> api = new ByteBuddy()
+                    .makeInterface()
+                    .name(API_PACKAGE + "." + simpleName)
+                    .defineMethod(methodName(i), String.class, Visibility.PUBLIC).withParameter(String.class, "wordStr").withoutCode()
+                    .defineMethod(methodName(i), String.class, Visibility.PUBLIC).withParameter(Word.class, "word").withoutCode()
+                    .make();
+            DynamicType.Unloaded<?> impl = new ByteBuddy()
+                    .subclass(Object.class)
+                    .implement(api.getTypeDescription())
+                    .name(API_PACKAGE + ".impl." + simpleName + "Impl")
+                    .method(isAbstract())
+                    .intercept(MethodDelegation.to(Target.class))
+                    .make();
+            api.saveIn(outputDirectory);
+            impl.saveIn(outputDirectory);
+            String implClassName = impl.getTypeDescription().getName();
+            definitions.add(new ApiDefinition(BeanDefinitionBuilder.genericBeanDefinition(implClassName).getBeanDefinition(),
+                    impl.getTypeDescription().getSimpleName(), api.getTypeDescription().getName()));
+        }
+        ApiDefinitionScanner.writeIndex(outputDirectory, new String[]{API_PACKAGE}, definitions);
+    }
+
+    /**
+     * XXXAPIImpl 的方法实现，与 SayAPIImpl 对应的方法一致
+     */
+    public static class Target {
+
+        public static String say(String word) {
+            return "说:" + word;
+        }
+
+        public static String say(Word word) {
+            return "说:" + word.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.async.ApiBulkCall;
+import com.coder.lee.dynamicspringcontroller.async.ApiCall;
+import com.coder.lee.dynamicspringcontroller.service.blocking.BlockingAPI;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * direct 模式下 @Blocking 方法生成的 {@link ApiCall}、@MicroBatch 方法生成的 {@link ApiBulkCall} 直接调用delegate
+ */
+class ApiCallGenerationTests {
+
+    private static final String BEAN_NAME = "BlockingAPIImpl";
+
+    private static final String PREFIX = ApiControllerGenerator.getControllerClassName(BEAN_NAME) + "_";
+
+    private static Map<String, Class<?>> auxiliaryTypes;
+
+    private final BlockingAPI delegate = new BlockingAPI() {
+        @Override
+        public String join(String wordStr, int times) {
+            return wordStr + "x" + times;
+        }
+
+        @Override
+        public int length(String wordStr) {
+            return wordStr.length();
+        }
+
+        @Override
+        public void touch(AtomicInteger counter) {
+            counter.incrementAndGet();
+        }
+
+        @Override
+        public String upper(String wordStr) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<String> upper(List<String> words) {
+            return words.stream().map(String::toUpperCase).collect(Collectors.toList());
+        }
+    };
+
+    @BeforeAll
+    static void make() {
+        ApiControllerGenerator generator = new ApiControllerGenerator(DispatchMode.DIRECT, ControllerTarget.SERVLET, false);
+        DynamicType.Loaded<?> loaded = generator.make(BEAN_NAME, ApiControllerGenerator.getApiEndpoints(BlockingAPI.class, BEAN_NAME), null)
+                .load(ApiCallGenerationTests.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        auxiliaryTypes = loaded.getLoadedAuxiliaryTypes().values().stream().collect(Collectors.toMap(Class::getName, type -> type));
+    }
+
+    private static ApiCall newCall(String name, Object... args) throws Exception {
+        Class<?> callClazz = auxiliaryTypes.get(PREFIX + name + "Call");
+        assertThat(callClazz).isNotNull();
+        Constructor<?> constructor = callClazz.getConstructors()[0];
+        return (ApiCall) constructor.newInstance(args);
+    }
+
+    @Test
+    void multipleParametersFromArguments() throws Throwable {
+        Object arguments = BeanUtils.instantiateClass(auxiliaryTypes.get(PREFIX + "join_String_intArguments"));
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(arguments);
+        wrapper.setPropertyValue("wordStr", "a");
+        wrapper.setPropertyValue("times", 3);
+        assertThat(newCall("join_String_int", delegate, arguments).call()).isEqualTo("ax3");
+    }
+
+    @Test
+    void primitiveReturnIsBoxed() throws Throwable {
+        assertThat(newCall("length_String", delegate, "four").call()).isEqualTo(4);
+    }
+
+    @Test
+    void voidReturnsNull() throws Throwable {
+        AtomicInteger counter = new AtomicInteger();
+        assertThat(newCall("touch_AtomicInteger", delegate, counter).call()).isNull();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void bulkCallInvokesBulkMethod() throws Throwable {
+        Class<?> callClazz = auxiliaryTypes.get(PREFIX + "upper_StringBulkCall");
+        assertThat(callClazz).isNotNull();
+        ApiBulkCall call = (ApiBulkCall) callClazz.getConstructors()[0].newInstance(delegate);
+        assertThat(call.call(Arrays.asList("a", "b"))).isEqualTo(Arrays.asList("A", "B"));
+    }
+
+}
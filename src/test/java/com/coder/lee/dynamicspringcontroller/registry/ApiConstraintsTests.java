@@ -0,0 +1,56 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.service.test.Word;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiConstraintsTests {
+
+    static class Plain {
+        @Valid
+        private String text;
+        private List<String> texts;
+    }
+
+    static class Cascaded {
+        @Valid
+        private Word word;
+    }
+
+    static class ContainerElements {
+        private List<@Valid Word> words;
+    }
+
+    static class ElementConstraint {
+        private List<@NotBlank String> texts;
+    }
+
+    static class Cyclic {
+        @Valid
+        private Cyclic next;
+    }
+
+    @Test
+    void detectConstraints() {
+        assertThat(ApiConstraints.isConstrained(String.class)).isFalse();
+        assertThat(ApiConstraints.isConstrained(List.class)).isFalse();
+        assertThat(ApiConstraints.isConstrained(Plain.class)).isFalse();
+        assertThat(ApiConstraints.isConstrained(Cyclic.class)).isFalse();
+        assertThat(ApiConstraints.isConstrained(Word.class)).isTrue();
+        assertThat(ApiConstraints.isConstrained(Cascaded.class)).isTrue();
+        assertThat(ApiConstraints.isConstrained(ContainerElements.class)).isTrue();
+        assertThat(ApiConstraints.isConstrained(ElementConstraint.class)).isTrue();
+    }
+
+    @Test
+    void collectConstrainedTypes() throws NoSuchFieldException {
+        assertThat(ApiConstraints.isCascadeConstrained(ContainerElements.class.getDeclaredField("words").getGenericType())).isTrue();
+        assertThat(ApiConstraints.getConstrainedTypes(Cascaded.class)).containsExactly(Cascaded.class, Word.class);
+    }
+
+}
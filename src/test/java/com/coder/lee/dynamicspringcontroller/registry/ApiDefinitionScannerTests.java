@@ -0,0 +1,92 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
+import com.coder.lee.dynamicspringcontroller.service.test.impl.SayAPIImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiDefinitionScannerTests {
+
+    private static final String API_PACKAGE = SayAPI.class.getPackage().getName();
+
+    @TempDir
+    Path index;
+
+    /**
+     * 只暴露临时目录中的索引，屏蔽 target/classes 中构建期生成的索引
+     */
+    private ClassLoader classLoader(boolean withIndex) {
+        return new ClassLoader(ApiDefinitionScannerTests.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (!ApiDefinitionScanner.INDEX_LOCATION.equals(name)) {
+                    return super.getResources(name);
+                }
+                return withIndex ? Collections.enumeration(Collections.singletonList(index.resolve(name).toUri().toURL())) : Collections.emptyEnumeration();
+            }
+        };
+    }
+
+    private static Properties properties(String scanPath) {
+        Properties properties = new Properties();
+        properties.setProperty(ApiDefinitionScanner.API_SCAN_PATH, scanPath);
+        return properties;
+    }
+
+    /**
+     * 索引中的接口留空，读索引得到的定义与扫描得到的定义可以区分
+     */
+    private void writeIndex(String... packages) throws IOException {
+        ApiDefinition definition = new ApiDefinition(BeanDefinitionBuilder.genericBeanDefinition(SayAPIImpl.class.getName()).getBeanDefinition(), "SayAPIImpl", null);
+        ApiDefinitionScanner.writeIndex(index.toFile(), packages, Collections.singletonList(definition));
+    }
+
+    @Test
+    void readIndexOfCoveredPackage() throws IOException {
+        writeIndex(API_PACKAGE);
+        List<ApiDefinition> definitions = new ApiDefinitionScanner(classLoader(true)).getApiDefinitions(properties(API_PACKAGE));
+        assertThat(definitions).hasSize(1);
+        assertThat(definitions.get(0).getImplClassName()).isEqualTo(SayAPIImpl.class.getName());
+        assertThat(definitions.get(0).getInterfaceClassName()).isNull();
+    }
+
+    @Test
+    void scanPackageNotCoveredByIndex() throws IOException {
+        writeIndex("com.example.other");
+        List<ApiDefinition> definitions = new ApiDefinitionScanner(classLoader(true)).getApiDefinitions(properties("com.example.other," + API_PACKAGE));
+        assertThat(definitions).extracting(ApiDefinition::getInterfaceClassName).containsExactly(SayAPI.class.getName());
+    }
+
+    @Test
+    void scanWithoutIndex() {
+        List<ApiDefinition> definitions = new ApiDefinitionScanner(classLoader(false)).getApiDefinitions(properties(API_PACKAGE));
+        assertThat(definitions).extracting(ApiDefinition::getInterfaceClassName).containsExactly(SayAPI.class.getName());
+    }
+
+    @Test
+    void indexWithoutPackagesCoversNothing() throws IOException {
+        Path file = index.resolve(ApiDefinitionScanner.INDEX_LOCATION);
+        Files.createDirectories(file.getParent());
+        Properties legacy = new Properties();
+        legacy.setProperty(SayAPIImpl.class.getName(), "");
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            legacy.store(outputStream, null);
+        }
+        List<ApiDefinition> definitions = new ApiDefinitionScanner(classLoader(true)).getApiDefinitions(properties(API_PACKAGE));
+        assertThat(definitions).extracting(ApiDefinition::getInterfaceClassName).containsExactly(SayAPI.class.getName());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.coder.lee.dynamicspringcontroller.registry;
+
+import com.coder.lee.dynamicspringcontroller.service.parallel.impl.CountAPIImpl;
+import com.coder.lee.dynamicspringcontroller.service.parallel.impl.GreetAPIImpl;
+import com.coder.lee.dynamicspringcontroller.service.parallel.impl.HelloAPIImpl;
+import com.coder.lee.dynamicspringcontroller.service.test.impl.SayAPIImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * service.parallel 不在构建期索引中，其中的API在 ForkJoinPool 中并行生成，仍按扫描顺序注册
+ */
+@SpringBootTest(properties = {
+        "api.scan.path=com.coder.lee.dynamicspringcontroller.service.test,com.coder.lee.dynamicspringcontroller.service.parallel",
+        "api.generation.parallelism=4"})
+class ParallelGenerationTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    @Test
+    void generateInParallel() {
+        Map<String, Object> report = postProcessor.getStartupReport().toMap();
+        assertThat(report).containsEntry("apiCount", 4).containsEntry("generated", 3);
+        assertThat(postProcessor.getControllerClasses()).extracting(Class::getName).containsExactlyInAnyOrder(
+                ApiControllerGenerator.getControllerClassName(SayAPIImpl.class.getSimpleName()),
+                ApiControllerGenerator.getControllerClassName(CountAPIImpl.class.getSimpleName()),
+                ApiControllerGenerator.getControllerClassName(GreetAPIImpl.class.getSimpleName()),
+                ApiControllerGenerator.getControllerClassName(HelloAPIImpl.class.getSimpleName()));
+        assertThat(postProcessor.getControllerClasses())
+                .allSatisfy(controllerClazz -> assertThat(context.getBeansOfType(controllerClazz)).hasSize(1));
+    }
+
+    @Test
+    void invokeParallelGeneratedControllers() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        for (String name : new String[]{"hello", "count", "greet"}) {
+            String body = mockMvc.perform(post("/" + name + "_String").contentType(MediaType.APPLICATION_JSON).content("\"x\""))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            assertThat(body).contains(name + ":x");
+        }
+    }
+
+}
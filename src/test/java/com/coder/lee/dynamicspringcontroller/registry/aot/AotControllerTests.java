@@ -0,0 +1,82 @@
+package com.coder.lee.dynamicspringcontroller.registry.aot;
+
+import com.coder.lee.dynamicspringcontroller.registry.ApiBeanDefinitionRegistryPostProcessor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiControllerGenerator;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.registry.ControllerTarget;
+import com.coder.lee.dynamicspringcontroller.registry.DispatchMode;
+import com.coder.lee.dynamicspringcontroller.service.test.SayAPI;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 从构建期预生成的controller启动；maven 在 process-classes 阶段已生成，单独运行时先生成到 target/classes
+ */
+@SpringBootTest(properties = "api.generation.parallelism=1")
+class AotControllerTests {
+
+    private static final ClassLoader CLASS_LOADER = AotControllerTests.class.getClassLoader();
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ApiBeanDefinitionRegistryPostProcessor postProcessor;
+
+    @BeforeAll
+    static void prebuild() throws Exception {
+        if (AotControllerIndex.load(CLASS_LOADER) == null) {
+            File classes = new File(AotControllerIndex.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            ApiControllerAotGenerator.main(new String[]{classes.getPath()});
+        }
+    }
+
+    @Test
+    void bootFromPrebuiltController() throws Exception {
+        AotControllerIndex index = AotControllerIndex.load(CLASS_LOADER);
+        assertThat(index).isNotNull();
+        assertThat(index.isIntercepted()).isTrue();
+        assertThat(postProcessor.getStartupReport().toMap()).containsEntry("prebuilt", 1).containsEntry("generated", 0);
+        assertThat(postProcessor.getControllerClasses()).extracting(Class::getName)
+                .containsExactly(index.getControllerClassName("SayAPIImpl"));
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        String body = mockMvc.perform(post("/say_String").contentType(MediaType.APPLICATION_JSON).content("\"aot\""))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("说:aot");
+    }
+
+    @Test
+    void fingerprintRecordsInterception() {
+        AotControllerIndex index = AotControllerIndex.load(CLASS_LOADER);
+        ApiControllerGenerator plain = new ApiControllerGenerator(DispatchMode.DIRECT, ControllerTarget.SERVLET, false);
+        assertThat(index.getFingerprint()).endsWith("intercepted=true");
+        assertThat(plain.fingerprint()).isNotEqualTo(index.getFingerprint());
+        // 运行时没有拦截器时按织入的指纹比较，仍使用预生成的controller
+        assertThat(plain.fingerprint(true)).isEqualTo(index.getFingerprint());
+    }
+
+    @Test
+    void signatureTracksApiInterface() {
+        AotControllerIndex index = AotControllerIndex.load(CLASS_LOADER);
+        List<ApiEndpoint> endpoints = ApiControllerGenerator.getApiEndpoints(SayAPI.class, "SayAPIImpl");
+        assertThat(ApiControllerGenerator.signature(endpoints)).isEqualTo(index.getSignature("SayAPIImpl"));
+        // 少一个方法时其后endpoint的下标都会变化
+        assertThat(ApiControllerGenerator.signature(endpoints.subList(1, endpoints.size()))).isNotEqualTo(index.getSignature("SayAPIImpl"));
+    }
+
+}
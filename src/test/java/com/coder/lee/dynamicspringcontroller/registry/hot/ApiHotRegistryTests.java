@@ -0,0 +1,220 @@
+package com.coder.lee.dynamicspringcontroller.registry.hot;
+
+import com.coder.lee.dynamicspringcontroller.interceptor.EndpointInterceptor;
+import com.coder.lee.dynamicspringcontroller.registry.ApiEndpoint;
+import com.coder.lee.dynamicspringcontroller.service.hot.BrokenAPI;
+import com.coder.lee.dynamicspringcontroller.service.hot.HotAPI;
+import com.coder.lee.dynamicspringcontroller.service.hot.HotWord;
+import com.coder.lee.dynamicspringcontroller.service.hot.impl.BrokenAPIImpl;
+import com.coder.lee.dynamicspringcontroller.service.hot.impl.HotAPIImpl;
+import com.coder.lee.dynamicspringcontroller.service.test.impl.SayAPIImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 热注册会修改路由，使用独立的上下文，测试结束后丢弃
+ */
+@SpringBootTest(properties = {"api.hot-registry.endpoint.enabled=true", "management.endpoints.web.exposure.include=apiregistry"})
+@DirtiesContext
+class ApiHotRegistryTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ApiHotRegistry apiHotRegistry;
+
+    @Autowired
+    private ApiRouteTable apiRouteTable;
+
+    @TempDir
+    Path location;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    private static ResultMatcher body(String expected) {
+        return result -> assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains(expected);
+    }
+
+    /**
+     * 把测试类路径中的class复制到注册位置
+     */
+    private URL copy(Class<?>... classes) throws IOException {
+        for (Class<?> clazz : classes) {
+            String resource = clazz.getName().replace('.', '/') + ".class";
+            Path target = location.resolve(resource);
+            Files.createDirectories(target.getParent());
+            try (InputStream inputStream = clazz.getClassLoader().getResourceAsStream(resource)) {
+                Files.copy(inputStream, target);
+            }
+        }
+        return location.toUri().toURL();
+    }
+
+    @Test
+    void unregisterAndRegisterFromLocation() throws Exception {
+        URL url = copy(SayAPIImpl.class);
+        try {
+            assertThat(apiHotRegistry.unregister("SayAPIImpl")).isTrue();
+            mockMvc.perform(post("/say_"))
+                    .andExpect(status().isNotFound());
+            assertThat(apiHotRegistry.register(SayAPIImpl.class.getName(), url)).contains("/say_", "/say_String", "/say_Word");
+            mockMvc.perform(post("/say_String").contentType(MediaType.APPLICATION_JSON).content("\"hot\""))
+                    .andExpect(status().isOk())
+                    .andExpect(body("说:hot"));
+            assertThat(getControllerClass("/say_String").getClassLoader().getParent()).isInstanceOf(ApiGenerationClassLoader.class);
+        } finally {
+            apiHotRegistry.unregister("SayAPIImpl");
+        }
+    }
+
+    @Test
+    void rejectImplNotInLocation() {
+        assertThatThrownBy(() -> apiHotRegistry.register(HotAPIImpl.class.getName(), location.toUri().toURL()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not found in");
+    }
+
+    @Test
+    void destroyBeanWhenRegisterFails() throws Exception {
+        URL url = copy(BrokenAPIImpl.class);
+        int destroyed = BrokenAPI.DESTROYED.get();
+        assertThatThrownBy(() -> apiHotRegistry.register(BrokenAPIImpl.class.getName(), url))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("bind broken_String failed");
+        assertThat(BrokenAPI.DESTROYED.get()).isEqualTo(destroyed + 1);
+        assertThat(apiRouteTable.getRoutes()).doesNotContainValue("BrokenAPIImpl");
+    }
+
+    @Test
+    void retiredGenerationIsCollected() throws Exception {
+        URL url = copy(HotAPI.class, HotWord.class, HotAPIImpl.class);
+        WeakReference<ClassLoader> first = registerAndCall(url, "first");
+        // 替换后第一代退役
+        WeakReference<ClassLoader> second = registerAndCall(url, "second");
+        assertCollected(first);
+        assertThat(apiHotRegistry.unregister("HotAPIImpl")).isTrue();
+        assertCollected(second);
+        mockMvc.perform(post("/hot_String").contentType(MediaType.APPLICATION_JSON).content("\"gone\""))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * 调用各种参数形式，使 mvc、fastjson、validator 都缓存了该代的类
+     */
+    private WeakReference<ClassLoader> registerAndCall(URL url, String word) throws Exception {
+        apiHotRegistry.register(HotAPIImpl.class.getName(), url);
+        mockMvc.perform(post("/hot_String").contentType(MediaType.APPLICATION_JSON).content("\"" + word + "\""))
+                .andExpect(status().isOk())
+                .andExpect(body("hot:" + word));
+        mockMvc.perform(post("/hot_HotWord").contentType(MediaType.APPLICATION_JSON).content("{\"word\":\"" + word + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(body("hot:" + word));
+        mockMvc.perform(post("/hot_HotWord").contentType(MediaType.APPLICATION_JSON).content("{\"word\":\"\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/hot_String_HotWord").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"wordStr\":\"" + word + "\",\"word\":{\"word\":\"" + word + "\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(body("hot:" + word + "," + word));
+        ClassLoader controllerClassLoader = getControllerClass("/hot_String").getClassLoader();
+        assertThat(controllerClassLoader.getParent()).isInstanceOf(ApiGenerationClassLoader.class);
+        return new WeakReference<>(controllerClassLoader.getParent());
+    }
+
+    private Class<?> getControllerClass(String path) throws Exception {
+        Object handler = apiRouteTable.getHandler(new MockHttpServletRequest("POST", path)).getHandler();
+        return ((HandlerMethod) handler).getBeanType();
+    }
+
+    private static void assertCollected(WeakReference<ClassLoader> classLoader) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (classLoader.get() != null && System.nanoTime() < deadline) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertThat(classLoader.get()).as("retired generation class loader").isNull();
+    }
+
+    @Test
+    void registryEndpoint() throws Exception {
+        mockMvc.perform(get("/actuator/apiregistry"))
+                .andExpect(status().isOk())
+                .andExpect(body("SayAPIImpl"));
+    }
+
+    @Test
+    void hotRouteSetsMatchAttributes() throws Exception {
+        URL url = copy(HotAPI.class, HotWord.class, HotAPIImpl.class);
+        apiHotRegistry.register(HotAPIImpl.class.getName(), url);
+        try {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/hot_String");
+            assertThat(apiRouteTable.getHandler(request)).isNotNull();
+            assertThat(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)).isEqualTo("/hot_String");
+            assertThat(request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE)).isEqualTo("/hot_String");
+            assertThat((Set<?>) request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE))
+                    .first().isEqualTo(MediaType.APPLICATION_JSON);
+            // 与启动期注册的controller一样只按 produces 协商
+            mockMvc.perform(post("/hot_String").contentType(MediaType.APPLICATION_JSON).accept(MediaType.TEXT_PLAIN).content("\"plain\""))
+                    .andExpect(result -> assertThat(result.getResolvedException()).isInstanceOf(HttpMediaTypeNotAcceptableException.class));
+        } finally {
+            apiHotRegistry.unregister("HotAPIImpl");
+        }
+    }
+
+    @TestConfiguration
+    static class BrokenInterceptorConfig {
+
+        /**
+         * 在创建实现类之后、发布路由之前失败
+         */
+        @Bean
+        EndpointInterceptor brokenInterceptor() {
+            return new EndpointInterceptor() {
+                @Override
+                public void bind(ApiEndpoint endpoint) {
+                    if ("broken_String".equals(endpoint.getName())) {
+                        throw new IllegalStateException("bind " + endpoint.getName() + " failed");
+                    }
+                }
+            };
+        }
+
+    }
+
+}
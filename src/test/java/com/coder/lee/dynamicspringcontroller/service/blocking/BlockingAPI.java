@@ -0,0 +1,26 @@
+package com.coder.lee.dynamicspringcontroller.service.blocking;
+
+import com.coder.lee.dynamicspringcontroller.annotation.Blocking;
+import com.coder.lee.dynamicspringcontroller.annotation.MicroBatch;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 生成转移执行调用的测试用API：多参数、基本类型返回值、void、批量合并
+ */
+@Blocking
+public interface BlockingAPI {
+
+    String join(String wordStr, int times);
+
+    int length(String wordStr);
+
+    void touch(AtomicInteger counter);
+
+    @MicroBatch
+    String upper(String wordStr);
+
+    List<String> upper(List<String> words);
+
+}
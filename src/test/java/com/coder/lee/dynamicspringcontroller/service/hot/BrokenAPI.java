@@ -0,0 +1,14 @@
+package com.coder.lee.dynamicspringcontroller.service.hot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 热注册失败测试用API，只有实现类从指定位置加载，销毁计数在应用类加载器中
+ */
+public interface BrokenAPI {
+
+    AtomicInteger DESTROYED = new AtomicInteger();
+
+    String broken(String wordStr);
+
+}
@@ -0,0 +1,14 @@
+package com.coder.lee.dynamicspringcontroller.service.hot;
+
+/**
+ * 热注册测试用API，与实现类一起从注册时指定的位置加载
+ */
+public interface HotAPI {
+
+    String hot(String wordStr);
+
+    String hot(HotWord word);
+
+    String hot(String wordStr, HotWord word);
+
+}
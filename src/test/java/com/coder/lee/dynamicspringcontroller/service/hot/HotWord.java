@@ -0,0 +1,18 @@
+package com.coder.lee.dynamicspringcontroller.service.hot;
+
+import javax.validation.constraints.NotBlank;
+
+public class HotWord {
+
+    @NotBlank
+    private String word;
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+}
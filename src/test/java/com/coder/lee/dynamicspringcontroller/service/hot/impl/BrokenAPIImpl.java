@@ -0,0 +1,18 @@
+package com.coder.lee.dynamicspringcontroller.service.hot.impl;
+
+import com.coder.lee.dynamicspringcontroller.service.hot.BrokenAPI;
+import org.springframework.beans.factory.DisposableBean;
+
+public class BrokenAPIImpl implements BrokenAPI, DisposableBean {
+
+    @Override
+    public String broken(String wordStr) {
+        return "broken:" + wordStr;
+    }
+
+    @Override
+    public void destroy() {
+        DESTROYED.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.coder.lee.dynamicspringcontroller.service.hot.impl;
+
+import com.coder.lee.dynamicspringcontroller.service.hot.HotAPI;
+import com.coder.lee.dynamicspringcontroller.service.hot.HotWord;
+
+public class HotAPIImpl implements HotAPI {
+
+    @Override
+    public String hot(String wordStr) {
+        return "hot:" + wordStr;
+    }
+
+    @Override
+    public String hot(HotWord word) {
+        return "hot:" + word.getWord();
+    }
+
+    @Override
+    public String hot(String wordStr, HotWord word) {
+        return "hot:" + wordStr + "," + word.getWord();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.coder.lee.dynamicspringcontroller.service.parallel;
+
+/**
+ * 并行生成测试用API，方法名各不相同，避免映射冲突
+ */
+public interface GreetAPI {
+
+    String greet(String wordStr);
+
+}
@@ -0,0 +1,12 @@
+package com.coder.lee.dynamicspringcontroller.service.parallel.impl;
+
+import com.coder.lee.dynamicspringcontroller.service.parallel.CountAPI;
+
+public class CountAPIImpl implements CountAPI {
+
+    @Override
+    public String count(String wordStr) {
+        return "count:" + wordStr;
+    }
+
+}
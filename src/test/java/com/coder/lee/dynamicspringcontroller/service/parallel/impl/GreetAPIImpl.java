@@ -0,0 +1,12 @@
+package com.coder.lee.dynamicspringcontroller.service.parallel.impl;
+
+import com.coder.lee.dynamicspringcontroller.service.parallel.GreetAPI;
+
+public class GreetAPIImpl implements GreetAPI {
+
+    @Override
+    public String greet(String wordStr) {
+        return "greet:" + wordStr;
+    }
+
+}
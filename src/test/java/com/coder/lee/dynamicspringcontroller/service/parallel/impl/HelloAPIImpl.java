@@ -0,0 +1,12 @@
+package com.coder.lee.dynamicspringcontroller.service.parallel.impl;
+
+import com.coder.lee.dynamicspringcontroller.service.parallel.HelloAPI;
+
+public class HelloAPIImpl implements HelloAPI {
+
+    @Override
+    public String hello(String wordStr) {
+        return "hello:" + wordStr;
+    }
+
+}